@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.benchmark.springframework.error;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import com.bernardomg.validation.domain.exception.FieldFailureException;
+import com.bernardomg.validation.domain.model.FieldFailure;
+import com.bernardomg.ws.springframework.error.GlobalExceptionHandler;
+
+/**
+ * Benchmarks for {@link GlobalExceptionHandler}.
+ * <p>
+ * The exceptions are created once, so only the handling is measured, and not the stack trace filling.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private IllegalArgumentException badRequestException;
+
+    private FieldFailureException    fieldFailureException;
+
+    private GlobalExceptionHandler   handler;
+
+    private RuntimeException         runtimeException;
+
+    private TypeMismatchException    typeMismatchException;
+
+    private WebRequest               webRequest;
+
+    @Benchmark
+    public final Object handleBadRequest() {
+        return handler.handleMappedException(badRequestException, webRequest);
+    }
+
+    @Benchmark
+    public final Object handleFieldFailure() {
+        return handler.handleValidationException(fieldFailureException);
+    }
+
+    @Benchmark
+    public final Object handleRuntime() {
+        return handler.handleMappedException(runtimeException, webRequest);
+    }
+
+    @Benchmark
+    public final Object handleTypeMismatch() throws Exception {
+        return handler.handleException(typeMismatchException, webRequest);
+    }
+
+    @Setup
+    public final void setup() {
+        handler = new GlobalExceptionHandler();
+
+        badRequestException = new IllegalArgumentException("Invalid argument");
+        runtimeException = new RuntimeException("Error message");
+        typeMismatchException = new TypeMismatchException("abc", Long.class);
+        fieldFailureException = new FieldFailureException("Invalid fields",
+            List.of(new FieldFailure("empty", "name", "Missing name", null),
+                new FieldFailure("invalid", "date", "Invalid date", "abc")));
+
+        webRequest = new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+}
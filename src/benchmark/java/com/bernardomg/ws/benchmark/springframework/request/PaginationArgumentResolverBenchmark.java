@@ -0,0 +1,196 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.benchmark.springframework.request;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.ws.springframework.error.GlobalExceptionHandler;
+import com.bernardomg.ws.springframework.request.ArgumentResolutionListener;
+import com.bernardomg.ws.springframework.request.MalformedParameterException;
+import com.bernardomg.ws.springframework.request.MalformedParameterPolicy;
+import com.bernardomg.ws.springframework.request.PageSizePolicy;
+import com.bernardomg.ws.springframework.request.PaginationArgumentResolver;
+
+/**
+ * Benchmarks for {@link PaginationArgumentResolver}.
+ * <p>
+ * Malformed params are measured from the resolver to the error response built by the {@link GlobalExceptionHandler},
+ * both for the resolver and for the previous parsing, which threw a {@code NumberFormatException}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationArgumentResolverBenchmark {
+
+    /**
+     * Controller used to acquire the method parameter.
+     */
+    public static final class Controller {
+
+        public final void read(final Pagination pagination) {
+            // Only used for the signature
+        }
+
+    }
+
+    private PaginationArgumentResolver defaultingResolver;
+
+    private GlobalExceptionHandler     handler;
+
+    private NativeWebRequest           malformedRequest;
+
+    private NativeWebRequest           noParamsRequest;
+
+    private NativeWebRequest           paginationRequest;
+
+    private MethodParameter            parameter;
+
+    private PaginationArgumentResolver resolver;
+
+    /**
+     * Resolves a malformed value as it was done before the non-throwing parser, and handles the exception, for
+     * comparison.
+     *
+     * @return the pagination, or the error response
+     */
+    @Benchmark
+    public final Object resolveMalformedBaseline() {
+        Object pagination;
+
+        try {
+            pagination = resolveWithException(malformedRequest);
+        } catch (final NumberFormatException e) {
+            pagination = handler.handleMappedException(e, malformedRequest);
+        }
+
+        return pagination;
+    }
+
+    @Benchmark
+    public final Object resolveDefaults() {
+        return resolver.resolveArgument(parameter, null, noParamsRequest, null);
+    }
+
+    @Benchmark
+    public final Object resolveMalformedDefault() {
+        return defaultingResolver.resolveArgument(parameter, null, malformedRequest, null);
+    }
+
+    @Benchmark
+    public final Object resolveMalformedRejected() {
+        Object pagination;
+
+        try {
+            pagination = resolver.resolveArgument(parameter, null, malformedRequest, null);
+        } catch (final MalformedParameterException e) {
+            pagination = handler.handleMappedException(e, malformedRequest);
+        }
+
+        return pagination;
+    }
+
+    @Benchmark
+    public final Object resolvePagination() {
+        return resolver.resolveArgument(parameter, null, paginationRequest, null);
+    }
+
+    @Setup
+    public final void setup() throws NoSuchMethodException {
+        final MockHttpServletRequest request;
+        final MockHttpServletRequest junkRequest;
+
+        resolver = new PaginationArgumentResolver();
+        handler = new GlobalExceptionHandler();
+        defaultingResolver = new PaginationArgumentResolver(100, PageSizePolicy.CLAMP,
+            MalformedParameterPolicy.DEFAULT, ArgumentResolutionListener.NO_OP);
+        parameter = new MethodParameter(Controller.class.getMethod("read", Pagination.class), 0);
+
+        noParamsRequest = new ServletWebRequest(new MockHttpServletRequest());
+
+        request = new MockHttpServletRequest();
+        request.setParameter("page", "3");
+        request.setParameter("size", "20");
+        paginationRequest = new ServletWebRequest(request);
+
+        junkRequest = new MockHttpServletRequest();
+        junkRequest.setParameter("page", "abc");
+        junkRequest.setParameter("size", "20");
+        malformedRequest = new ServletWebRequest(junkRequest, new MockHttpServletResponse());
+    }
+
+    /**
+     * Resolves the pagination as it was done before the non-throwing parser, kept as baseline.
+     *
+     * @param request
+     *            request with the pagination params
+     * @return the pagination for the params
+     */
+    private final Pagination resolveWithException(final NativeWebRequest request) {
+        final String pageParam;
+        final String sizeParam;
+        final int    page;
+        final int    size;
+
+        pageParam = request.getParameter("page");
+        if (pageParam == null) {
+            page = 1;
+        } else {
+            page = Math.max(Integer.parseInt(pageParam), 1);
+        }
+
+        sizeParam = request.getParameter("size");
+        if (sizeParam == null) {
+            size = 10;
+        } else {
+            size = Math.max(Integer.parseInt(sizeParam), 1);
+        }
+
+        return new Pagination(page, size);
+    }
+
+}
@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.benchmark.springframework.request;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.ws.springframework.request.SortingArgumentResolver;
+
+/**
+ * Benchmarks for {@link SortingArgumentResolver}. Runs both without cache and with the parsed sortings cache.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortingArgumentResolverBenchmark {
+
+    /**
+     * Controller used to acquire the method parameter.
+     */
+    public static final class Controller {
+
+        public final void read(final Sorting sorting) {
+            // Only used for the signature
+        }
+
+    }
+
+    /**
+     * Parsed sortings cache size, zero disables the cache.
+     */
+    @Param({ "0", "256" })
+    private int                     cacheSize;
+
+    private NativeWebRequest        multipleSortingRequest;
+
+    private NativeWebRequest        noSortingRequest;
+
+    private MethodParameter         parameter;
+
+    private SortingArgumentResolver resolver;
+
+    private NativeWebRequest        sortingRequest;
+
+    @Benchmark
+    public final Object resolveMultipleSorting() {
+        return resolver.resolveArgument(parameter, null, multipleSortingRequest, null);
+    }
+
+    @Benchmark
+    public final Object resolveNoSorting() {
+        return resolver.resolveArgument(parameter, null, noSortingRequest, null);
+    }
+
+    @Benchmark
+    public final Object resolveSorting() {
+        return resolver.resolveArgument(parameter, null, sortingRequest, null);
+    }
+
+    @Setup
+    public final void setup() throws NoSuchMethodException {
+        final MockHttpServletRequest request;
+        final MockHttpServletRequest multipleRequest;
+
+        resolver = new SortingArgumentResolver(cacheSize);
+        parameter = new MethodParameter(Controller.class.getMethod("read", Sorting.class), 0);
+
+        noSortingRequest = new ServletWebRequest(new MockHttpServletRequest());
+
+        request = new MockHttpServletRequest();
+        request.setParameter("sort", "name,desc");
+        sortingRequest = new ServletWebRequest(request);
+
+        multipleRequest = new MockHttpServletRequest();
+        multipleRequest.setParameter("sort", "name,desc", "date,asc", "id,asc");
+        multipleSortingRequest = new ServletWebRequest(multipleRequest);
+    }
+
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.benchmark.springframework.response;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bernardomg.validation.domain.model.FieldFailure;
+import com.bernardomg.ws.response.domain.model.ErrorResponse;
+import com.bernardomg.ws.response.domain.model.FailureResponse;
+import com.bernardomg.ws.response.domain.model.Response;
+import com.bernardomg.ws.springframework.response.WebServiceJacksonModule;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks for {@link WebServiceJacksonModule}, compared with the default serialization of the response wrappers.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebServiceJacksonModuleBenchmark {
+
+    private ObjectMapper     defaultMapper;
+
+    private ErrorResponse    errorResponse;
+
+    private FailureResponse  failureResponse;
+
+    private ObjectMapper     moduleMapper;
+
+    private Response<String> response;
+
+    @Benchmark
+    public final byte[] serializeErrorDefault() throws JsonProcessingException {
+        return defaultMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public final byte[] serializeErrorModule() throws JsonProcessingException {
+        return moduleMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public final byte[] serializeFailureDefault() throws JsonProcessingException {
+        return defaultMapper.writeValueAsBytes(failureResponse);
+    }
+
+    @Benchmark
+    public final byte[] serializeFailureModule() throws JsonProcessingException {
+        return moduleMapper.writeValueAsBytes(failureResponse);
+    }
+
+    @Benchmark
+    public final byte[] serializeResponseDefault() throws JsonProcessingException {
+        return defaultMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public final byte[] serializeResponseModule() throws JsonProcessingException {
+        return moduleMapper.writeValueAsBytes(response);
+    }
+
+    @Setup
+    public final void setup() {
+        defaultMapper = new ObjectMapper();
+        moduleMapper = new ObjectMapper().registerModule(new WebServiceJacksonModule());
+
+        response = new Response<>("content");
+        errorResponse = new ErrorResponse("error", "Internal error");
+        failureResponse = new FailureResponse("invalid", "Invalid data",
+            Map.of("name", List.of(new FieldFailure("empty", "name", "Missing name", null)), "date",
+                List.of(new FieldFailure("invalid", "date", "Invalid date", "abc"))));
+    }
+
+}
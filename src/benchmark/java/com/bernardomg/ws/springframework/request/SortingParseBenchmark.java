@@ -0,0 +1,103 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.pagination.domain.Sorting.Direction;
+import com.bernardomg.pagination.domain.Sorting.Property;
+
+/**
+ * Compares the sort params parsing in {@link SortingParser} against the previous split based parsing. Both receive the
+ * same raw params, so only the parsing is measured. Run it with the GC profiler to compare allocations.
+ * <p>
+ * It is in the same package as the parser, as the parser is not public.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortingParseBenchmark {
+
+    private final String[] params = { "name,desc", "date,asc", "id,asc" };
+
+    @Benchmark
+    public final Object parseScanner() {
+        return SortingParser.parse(params);
+    }
+
+    @Benchmark
+    public final Object parseSplit() {
+        return splitSorting(params);
+    }
+
+    /**
+     * Split based parsing, kept as baseline.
+     *
+     * @param values
+     *            sort params
+     * @return the sorting for the params
+     */
+    private final Sorting splitSorting(final String[] values) {
+        final List<Property> properties;
+
+        properties = Arrays.stream(values)
+            .map(p -> p.split(","))
+            .filter(p -> p.length >= 2)
+            .map(p -> {
+                final Direction direction;
+
+                if ("desc".equalsIgnoreCase(p[1].trim()
+                    .toUpperCase())) {
+                    direction = Direction.DESC;
+                } else {
+                    direction = Direction.ASC;
+                }
+                return new Property(p[0].trim(), direction);
+            })
+            .toList();
+
+        return new Sorting(List.copyOf(properties));
+    }
+
+}
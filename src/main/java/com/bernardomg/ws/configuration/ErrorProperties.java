@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Error handling configuration properties.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param logging
+ *            exception logging
+ * @param failures
+ *            field failures
+ */
+@ConfigurationProperties(prefix = "bernardomg.ws.error")
+public record ErrorProperties(@DefaultValue Logging logging, @DefaultValue Failures failures) {
+
+    /**
+     * Field failures properties.
+     *
+     * @param max
+     *            maximum number of failures in a response, if it is not positive the failures are not limited
+     * @param codes
+     *            failure codes for each validation error code, these are added to the defaults
+     */
+    public record Failures(@DefaultValue("100") int max, Map<String, String> codes) {
+
+        public Failures {
+            codes = Objects.requireNonNullElse(codes, Map.of());
+        }
+
+    }
+
+    /**
+     * Exception logging properties.
+     *
+     * @param clientStackTraces
+     *            log client errors with their stack traces
+     * @param maxPerWindow
+     *            maximum logs for each exception type and window, if it is not positive the logs are not limited
+     * @param window
+     *            rate limit window length
+     */
+    public record Logging(@DefaultValue("false") boolean clientStackTraces, @DefaultValue("10") int maxPerWindow,
+            @DefaultValue("1s") Duration window) {
+
+    }
+
+}
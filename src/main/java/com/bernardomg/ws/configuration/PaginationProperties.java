@@ -0,0 +1,50 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.bernardomg.ws.springframework.request.MalformedParameterPolicy;
+import com.bernardomg.ws.springframework.request.PageSizePolicy;
+
+/**
+ * Pagination configuration properties.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param maxSize
+ *            maximum page size, if it is not positive there is no limit
+ * @param oversizePolicy
+ *            what to do when a page bigger than the maximum is requested
+ * @param malformedPolicy
+ *            what to do when the page or size can't be parsed
+ */
+@ConfigurationProperties(prefix = "bernardomg.ws.pagination")
+public record PaginationProperties(@DefaultValue("100") int maxSize,
+        @DefaultValue("clamp") PageSizePolicy oversizePolicy,
+        @DefaultValue("reject") MalformedParameterPolicy malformedPolicy) {
+
+}
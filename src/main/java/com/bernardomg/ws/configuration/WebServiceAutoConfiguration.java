@@ -24,42 +24,312 @@
 
 package com.bernardomg.ws.configuration;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.bernardomg.ws.springframework.error.ExceptionHandlingListener;
+import com.bernardomg.ws.springframework.error.ExceptionLoggingPolicy;
+import com.bernardomg.ws.springframework.error.ExceptionMappings;
+import com.bernardomg.ws.springframework.error.ExceptionMappingsCustomizer;
+import com.bernardomg.ws.springframework.error.FieldFailureCodeMapper;
+import com.bernardomg.ws.springframework.error.FieldFailureCodeTable;
+import com.bernardomg.ws.springframework.error.FieldFailureMapper;
 import com.bernardomg.ws.springframework.error.GlobalExceptionHandler;
+import com.bernardomg.ws.springframework.request.ArgumentResolutionListener;
+import com.bernardomg.ws.springframework.request.CursorPaginationArgumentResolver;
 import com.bernardomg.ws.springframework.request.PaginationArgumentResolver;
+import com.bernardomg.ws.springframework.request.ParallelValidationAdvice;
+import com.bernardomg.ws.springframework.request.ProjectionArgumentResolver;
 import com.bernardomg.ws.springframework.request.SortingArgumentResolver;
+import com.bernardomg.ws.springframework.response.CompressionFilter;
+import com.bernardomg.ws.springframework.response.CompressionListener;
+import com.bernardomg.ws.springframework.response.ETagResponseAdvice;
+import com.bernardomg.ws.springframework.response.ProjectionResponseAdvice;
+import com.bernardomg.ws.springframework.response.ResponseCache;
+import com.bernardomg.ws.springframework.response.ResponseCacheAdvice;
+import com.bernardomg.ws.springframework.response.ResponseCacheInterceptor;
+import com.bernardomg.ws.springframework.response.StreamPageHttpMessageConverter;
+import com.bernardomg.ws.springframework.response.StreamResponseHttpMessageConverter;
+import com.bernardomg.ws.springframework.response.WebServiceJacksonModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validator;
 
 /**
- * Web service auto configuration.
+ * Web service auto configuration. Only applied on servlet web applications, reactive ones are configured by
+ * {@link WebServiceReactiveAutoConfiguration}.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
-@AutoConfiguration
+@AutoConfiguration(after = ValidationAutoConfiguration.class)
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@EnableConfigurationProperties({ CompressionProperties.class, ErrorProperties.class, PaginationProperties.class,
+        SortingProperties.class, ValidationProperties.class })
 public class WebServiceAutoConfiguration implements WebMvcConfigurer {
 
     /**
-     * Default constructor.
+     * Cursor pagination argument resolver.
+     */
+    private final ObjectProvider<CursorPaginationArgumentResolver> cursorPaginationArgumentResolver;
+
+    /**
+     * Application environment.
+     */
+    private final Environment                                      environment;
+
+    /**
+     * Pagination argument resolver.
+     */
+    private final ObjectProvider<PaginationArgumentResolver>       paginationArgumentResolver;
+
+    /**
+     * Projection argument resolver.
      */
-    public WebServiceAutoConfiguration() {
+    private final ObjectProvider<ProjectionArgumentResolver>       projectionArgumentResolver;
+
+    /**
+     * Cached responses.
+     */
+    private final ObjectProvider<ResponseCache>                    responseCache;
+
+    /**
+     * Sorting argument resolver.
+     */
+    private final ObjectProvider<SortingArgumentResolver>          sortingArgumentResolver;
+
+    /**
+     * Constructs the configuration with the argument resolvers to register.
+     *
+     * @param paginationResolver
+     *            pagination argument resolver
+     * @param cursorPaginationResolver
+     *            cursor pagination argument resolver
+     * @param sortingResolver
+     *            sorting argument resolver
+     * @param projectionResolver
+     *            projection argument resolver
+     * @param cache
+     *            cached responses
+     * @param env
+     *            application environment
+     */
+    public WebServiceAutoConfiguration(final ObjectProvider<PaginationArgumentResolver> paginationResolver,
+            final ObjectProvider<CursorPaginationArgumentResolver> cursorPaginationResolver,
+            final ObjectProvider<SortingArgumentResolver> sortingResolver,
+            final ObjectProvider<ProjectionArgumentResolver> projectionResolver,
+            final ObjectProvider<ResponseCache> cache, final Environment env) {
         super();
+
+        paginationArgumentResolver = paginationResolver;
+        cursorPaginationArgumentResolver = cursorPaginationResolver;
+        sortingArgumentResolver = sortingResolver;
+        projectionArgumentResolver = projectionResolver;
+        responseCache = cache;
+        environment = env;
     }
 
     @Override
     public void addArgumentResolvers(final List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new PaginationArgumentResolver());
-        resolvers.add(new SortingArgumentResolver());
+        resolvers.add(paginationArgumentResolver.getObject());
+        resolvers.add(cursorPaginationArgumentResolver.getObject());
+        resolvers.add(sortingArgumentResolver.getObject());
+        resolvers.add(projectionArgumentResolver.getObject());
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new ResponseCacheInterceptor(responseCache.getObject()));
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        final SimpleAsyncTaskExecutor executor;
+
+        // Async requests, such as streamed responses, run on virtual threads when these are enabled with
+        // spring.threads.virtual.enabled. This doesn't depend on the application task executor, which may be
+        // replaced by the application
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor = new SimpleAsyncTaskExecutor("ws-async-");
+            executor.setVirtualThreads(true);
+            configurer.setTaskExecutor(executor);
+        }
+    }
+
+    @Override
+    public void extendMessageConverters(final List<HttpMessageConverter<?>> converters) {
+        final Optional<ObjectMapper> mapper;
+
+        // The stream converters reuse the JSON mapper, and go first so the JSON converter doesn't take the streams
+        mapper = converters.stream()
+            .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+            .map(MappingJackson2HttpMessageConverter.class::cast)
+            .findFirst()
+            .map(MappingJackson2HttpMessageConverter::getObjectMapper);
+        mapper.ifPresent(m -> {
+            converters.add(0, new StreamResponseHttpMessageConverter(m));
+            converters.add(0, new StreamPageHttpMessageConverter(m));
+        });
+    }
+
+    @Bean("compressionFilter")
+    @ConditionalOnProperty(prefix = "bernardomg.ws.compression", name = "enabled", havingValue = "true")
+    public CompressionFilter getCompressionFilter(final CompressionProperties properties,
+            final ObjectProvider<CompressionListener> listener) {
+        return new CompressionFilter(Math.toIntExact(properties.minSize()
+            .toBytes()), properties.mediaTypes(), listener.getIfAvailable(() -> CompressionListener.NO_OP));
+    }
+
+    @Bean("cursorPaginationArgumentResolver")
+    public CursorPaginationArgumentResolver getCursorPaginationArgumentResolver(final PaginationProperties properties,
+            final ObjectProvider<ArgumentResolutionListener> listener) {
+        return new CursorPaginationArgumentResolver(properties.maxSize(), properties.oversizePolicy(),
+            properties.malformedPolicy(), listener.getIfAvailable(() -> ArgumentResolutionListener.NO_OP));
+    }
+
+    @Bean("eTagResponseAdvice")
+    public ETagResponseAdvice getETagResponseAdvice(final ObjectProvider<HttpMessageConverters> messageConverters) {
+        return new ETagResponseAdvice(getConverters(messageConverters));
+    }
+
+    @Bean("exceptionMappings")
+    public ExceptionMappings getExceptionMappings(final ObjectProvider<ExceptionMappingsCustomizer> customizers) {
+        final ExceptionMappings mappings;
+
+        mappings = new ExceptionMappings();
+        customizers.orderedStream()
+            .forEach(customizer -> customizer.customize(mappings));
+
+        return mappings;
+    }
+
+    @Bean("fieldFailureMapper")
+    public FieldFailureMapper getFieldFailureMapper(final ErrorProperties properties,
+            final ObjectProvider<FieldFailureCodeMapper> codeMapper) {
+        final FieldFailureCodeMapper mapper;
+
+        // The codes table is only built if there is no custom mapper
+        mapper = codeMapper.getIfAvailable(() -> new FieldFailureCodeTable(properties.failures()
+            .codes()));
+
+        return new FieldFailureMapper(mapper, properties.failures()
+            .max());
     }
 
     @Bean("globalExceptionHandler")
-    public GlobalExceptionHandler getGlobalExceptionHandler() {
-        return new GlobalExceptionHandler();
+    public GlobalExceptionHandler getGlobalExceptionHandler(final ErrorProperties properties,
+            final ObjectProvider<HttpMessageConverters> messageConverters,
+            final ObjectProvider<ExceptionHandlingListener> listener, final ExceptionMappings exceptionMappings,
+            final FieldFailureMapper failureMapper) {
+        final ExceptionLoggingPolicy              policy;
+        final Collection<HttpMessageConverter<?>> converters;
+
+        policy = new ExceptionLoggingPolicy(properties.logging()
+            .clientStackTraces(),
+            properties.logging()
+                .maxPerWindow(),
+            properties.logging()
+                .window());
+
+        // The constant errors are serialized with the same converters used for the responses
+        converters = getConverters(messageConverters);
+
+        return new GlobalExceptionHandler(policy, converters,
+            listener.getIfAvailable(() -> ExceptionHandlingListener.NO_OP), exceptionMappings, failureMapper);
+    }
+
+    @Bean("paginationArgumentResolver")
+    public PaginationArgumentResolver getPaginationArgumentResolver(final PaginationProperties properties,
+            final ObjectProvider<ArgumentResolutionListener> listener) {
+        return new PaginationArgumentResolver(properties.maxSize(), properties.oversizePolicy(),
+            properties.malformedPolicy(), listener.getIfAvailable(() -> ArgumentResolutionListener.NO_OP));
+    }
+
+    @Bean("parallelValidationAdvice")
+    @ConditionalOnBean(Validator.class)
+    public ParallelValidationAdvice getParallelValidationAdvice(final ValidationProperties properties,
+            final Validator validator) {
+        final int parallelism;
+
+        if (properties.parallelism() > 0) {
+            parallelism = properties.parallelism();
+        } else {
+            parallelism = Runtime.getRuntime()
+                .availableProcessors();
+        }
+
+        return new ParallelValidationAdvice(validator, parallelism, properties.threshold());
+    }
+
+    @Bean("projectionArgumentResolver")
+    public ProjectionArgumentResolver getProjectionArgumentResolver(
+            final ObjectProvider<ArgumentResolutionListener> listener) {
+        return new ProjectionArgumentResolver(listener.getIfAvailable(() -> ArgumentResolutionListener.NO_OP));
+    }
+
+    @Bean("projectionResponseAdvice")
+    public ProjectionResponseAdvice getProjectionResponseAdvice() {
+        return new ProjectionResponseAdvice();
+    }
+
+    @Bean("responseCache")
+    public ResponseCache getResponseCache() {
+        return new ResponseCache();
+    }
+
+    @Bean("responseCacheAdvice")
+    public ResponseCacheAdvice getResponseCacheAdvice(final ObjectProvider<HttpMessageConverters> messageConverters) {
+        return new ResponseCacheAdvice(getConverters(messageConverters));
+    }
+
+    @Bean("sortingArgumentResolver")
+    public SortingArgumentResolver getSortingArgumentResolver(final SortingProperties properties,
+            final ObjectProvider<ArgumentResolutionListener> listener) {
+        final int cacheSize;
+
+        if (properties.cache()
+            .enabled()) {
+            cacheSize = properties.cache()
+                .size();
+        } else {
+            cacheSize = 0;
+        }
+
+        return new SortingArgumentResolver(cacheSize, listener.getIfAvailable(() -> ArgumentResolutionListener.NO_OP));
+    }
+
+    @Bean("webServiceJacksonModule")
+    public WebServiceJacksonModule getWebServiceJacksonModule() {
+        return new WebServiceJacksonModule();
+    }
+
+    private final Collection<HttpMessageConverter<?>> getConverters(
+            final ObjectProvider<HttpMessageConverters> messageConverters) {
+        return messageConverters.stream()
+            .findFirst()
+            .map(HttpMessageConverters::getConverters)
+            .orElseGet(() -> List.of(new MappingJackson2HttpMessageConverter()));
     }
 
 }
@@ -0,0 +1,195 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.configuration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Binary formats auto configuration. Registers CBOR and Smile support for the responses, each of them only when its
+ * Jackson data format is in the classpath.
+ * <p>
+ * The mappers are created from the application mapper builder, so they share the same modules and settings as the JSON
+ * responses. Clients choose the format with the {@code Accept} header.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnClass(Jackson2ObjectMapperBuilder.class)
+public class WebServiceBinaryFormatsAutoConfiguration {
+
+    /**
+     * Creates a mapper for a binary format, from the application mapper builder.
+     *
+     * @param builder
+     *            application mapper builder
+     * @param factory
+     *            factory for the binary format
+     * @return mapper for the binary format
+     */
+    private static final ObjectMapper getMapper(final ObjectProvider<Jackson2ObjectMapperBuilder> builder,
+            final JsonFactory factory) {
+        return builder.getIfAvailable(Jackson2ObjectMapperBuilder::new)
+            .factory(factory)
+            .build();
+    }
+
+    /**
+     * Default constructor.
+     */
+    public WebServiceBinaryFormatsAutoConfiguration() {
+        super();
+    }
+
+    /**
+     * CBOR codecs for reactive applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(CBORFactory.class)
+    @ConditionalOnWebApplication(type = Type.REACTIVE)
+    public static class CborReactiveConfiguration {
+
+        /**
+         * Default constructor.
+         */
+        public CborReactiveConfiguration() {
+            super();
+        }
+
+        @Bean("cborCodecCustomizer")
+        public CodecCustomizer getCborCodecCustomizer(final ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            final ObjectMapper mapper;
+
+            mapper = getMapper(builder, new CBORFactory());
+            return configurer -> {
+                configurer.customCodecs()
+                    .register(new Jackson2CborEncoder(mapper));
+                configurer.customCodecs()
+                    .register(new Jackson2CborDecoder(mapper));
+            };
+        }
+
+    }
+
+    /**
+     * CBOR message converter for servlet applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(CBORFactory.class)
+    @ConditionalOnWebApplication(type = Type.SERVLET)
+    public static class CborServletConfiguration {
+
+        /**
+         * Default constructor.
+         */
+        public CborServletConfiguration() {
+            super();
+        }
+
+        @Bean("cborHttpMessageConverter")
+        @ConditionalOnMissingBean(MappingJackson2CborHttpMessageConverter.class)
+        public MappingJackson2CborHttpMessageConverter
+                getCborHttpMessageConverter(final ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            return new MappingJackson2CborHttpMessageConverter(getMapper(builder, new CBORFactory()));
+        }
+
+    }
+
+    /**
+     * Smile codecs for reactive applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SmileFactory.class)
+    @ConditionalOnWebApplication(type = Type.REACTIVE)
+    public static class SmileReactiveConfiguration {
+
+        /**
+         * Default constructor.
+         */
+        public SmileReactiveConfiguration() {
+            super();
+        }
+
+        @Bean("smileCodecCustomizer")
+        public CodecCustomizer getSmileCodecCustomizer(final ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            final ObjectMapper mapper;
+
+            mapper = getMapper(builder, new SmileFactory());
+            return configurer -> {
+                configurer.customCodecs()
+                    .register(new Jackson2SmileEncoder(mapper));
+                configurer.customCodecs()
+                    .register(new Jackson2SmileDecoder(mapper));
+            };
+        }
+
+    }
+
+    /**
+     * Smile message converter for servlet applications.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SmileFactory.class)
+    @ConditionalOnWebApplication(type = Type.SERVLET)
+    public static class SmileServletConfiguration {
+
+        /**
+         * Default constructor.
+         */
+        public SmileServletConfiguration() {
+            super();
+        }
+
+        @Bean("smileHttpMessageConverter")
+        @ConditionalOnMissingBean(MappingJackson2SmileHttpMessageConverter.class)
+        public MappingJackson2SmileHttpMessageConverter
+                getSmileHttpMessageConverter(final ObjectProvider<Jackson2ObjectMapperBuilder> builder) {
+            return new MappingJackson2SmileHttpMessageConverter(getMapper(builder, new SmileFactory()));
+        }
+
+    }
+
+}
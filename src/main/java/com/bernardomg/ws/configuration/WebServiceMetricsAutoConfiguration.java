@@ -0,0 +1,141 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.configuration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.bernardomg.ws.micrometer.MicrometerArgumentResolutionListener;
+import com.bernardomg.ws.micrometer.MicrometerCompressionListener;
+import com.bernardomg.ws.micrometer.MicrometerExceptionHandlingListener;
+import com.bernardomg.ws.micrometer.WebServiceMeterBinder;
+import com.bernardomg.ws.springframework.error.ExceptionHandlingListener;
+import com.bernardomg.ws.springframework.error.GlobalExceptionHandler;
+import com.bernardomg.ws.springframework.error.ReactiveGlobalExceptionHandler;
+import com.bernardomg.ws.springframework.request.ArgumentResolutionListener;
+import com.bernardomg.ws.springframework.request.CursorPaginationArgumentResolver;
+import com.bernardomg.ws.springframework.request.PaginationArgumentResolver;
+import com.bernardomg.ws.springframework.request.ReactivePaginationArgumentResolver;
+import com.bernardomg.ws.springframework.request.ReactiveSortingArgumentResolver;
+import com.bernardomg.ws.springframework.request.SortingArgumentResolver;
+import com.bernardomg.ws.springframework.response.CompressionListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Web service metrics auto configuration. Only applied when Micrometer is available.
+ * <p>
+ * The counters are bound for the components of the current web application type, so the servlet and reactive classes
+ * are never loaded together.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@AutoConfiguration(
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+public class WebServiceMetricsAutoConfiguration {
+
+    /**
+     * Default constructor.
+     */
+    public WebServiceMetricsAutoConfiguration() {
+        super();
+    }
+
+    @Bean("argumentResolutionListener")
+    public ArgumentResolutionListener getArgumentResolutionListener(final MeterRegistry registry) {
+        return new MicrometerArgumentResolutionListener(registry);
+    }
+
+    @Bean("exceptionHandlingListener")
+    public ExceptionHandlingListener getExceptionHandlingListener(final MeterRegistry registry) {
+        return new MicrometerExceptionHandlingListener(registry);
+    }
+
+    /**
+     * Binds the counters of the reactive components.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = Type.REACTIVE)
+    public static class ReactiveMeterBinderConfiguration {
+
+        /**
+         * Default constructor.
+         */
+        public ReactiveMeterBinderConfiguration() {
+            super();
+        }
+
+        @Bean("webServiceMeterBinder")
+        public WebServiceMeterBinder getWebServiceMeterBinder(
+                final ObjectProvider<ReactivePaginationArgumentResolver> pagination,
+                final ObjectProvider<ReactiveSortingArgumentResolver> sorting,
+                final ObjectProvider<ReactiveGlobalExceptionHandler> handler) {
+            return new WebServiceMeterBinder(pagination.getIfAvailable(), null, sorting.getIfAvailable(),
+                handler.getIfAvailable());
+        }
+
+    }
+
+    /**
+     * Binds the counters of the servlet components.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = Type.SERVLET)
+    public static class ServletMeterBinderConfiguration {
+
+        /**
+         * Default constructor.
+         */
+        public ServletMeterBinderConfiguration() {
+            super();
+        }
+
+        @Bean("compressionListener")
+        public CompressionListener getCompressionListener(final MeterRegistry registry) {
+            return new MicrometerCompressionListener(registry);
+        }
+
+        @Bean("webServiceMeterBinder")
+        public WebServiceMeterBinder getWebServiceMeterBinder(
+                final ObjectProvider<PaginationArgumentResolver> pagination,
+                final ObjectProvider<CursorPaginationArgumentResolver> cursorPagination,
+                final ObjectProvider<SortingArgumentResolver> sorting,
+                final ObjectProvider<GlobalExceptionHandler> handler) {
+            return new WebServiceMeterBinder(pagination.getIfAvailable(), cursorPagination.getIfAvailable(),
+                sorting.getIfAvailable(), handler.getIfAvailable());
+        }
+
+    }
+
+}
@@ -0,0 +1,173 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.configuration;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+import com.bernardomg.ws.springframework.error.ExceptionHandlingListener;
+import com.bernardomg.ws.springframework.error.ExceptionLoggingPolicy;
+import com.bernardomg.ws.springframework.error.ExceptionMappings;
+import com.bernardomg.ws.springframework.error.ExceptionMappingsCustomizer;
+import com.bernardomg.ws.springframework.error.FieldFailureCodeMapper;
+import com.bernardomg.ws.springframework.error.FieldFailureCodeTable;
+import com.bernardomg.ws.springframework.error.FieldFailureMapper;
+import com.bernardomg.ws.springframework.error.ReactiveGlobalExceptionHandler;
+import com.bernardomg.ws.springframework.request.ArgumentResolutionListener;
+import com.bernardomg.ws.springframework.request.ReactivePaginationArgumentResolver;
+import com.bernardomg.ws.springframework.request.ReactiveSortingArgumentResolver;
+import com.bernardomg.ws.springframework.response.WebServiceJacksonModule;
+
+/**
+ * Web service auto configuration for reactive web applications. Registers the reactive variants of the argument
+ * resolvers and the exception handler, which take the same properties as the servlet ones.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@EnableConfigurationProperties({ ErrorProperties.class, PaginationProperties.class, SortingProperties.class })
+public class WebServiceReactiveAutoConfiguration implements WebFluxConfigurer {
+
+    /**
+     * Pagination argument resolver.
+     */
+    private final ObjectProvider<ReactivePaginationArgumentResolver> paginationArgumentResolver;
+
+    /**
+     * Sorting argument resolver.
+     */
+    private final ObjectProvider<ReactiveSortingArgumentResolver>    sortingArgumentResolver;
+
+    /**
+     * Constructs the configuration with the argument resolvers to register.
+     *
+     * @param paginationResolver
+     *            pagination argument resolver
+     * @param sortingResolver
+     *            sorting argument resolver
+     */
+    public WebServiceReactiveAutoConfiguration(
+            final ObjectProvider<ReactivePaginationArgumentResolver> paginationResolver,
+            final ObjectProvider<ReactiveSortingArgumentResolver> sortingResolver) {
+        super();
+
+        paginationArgumentResolver = paginationResolver;
+        sortingArgumentResolver = sortingResolver;
+    }
+
+    @Override
+    public void configureArgumentResolvers(final ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(paginationArgumentResolver.getObject(), sortingArgumentResolver.getObject());
+    }
+
+    @Bean("exceptionMappings")
+    public ExceptionMappings getExceptionMappings(final ObjectProvider<ExceptionMappingsCustomizer> customizers) {
+        final ExceptionMappings mappings;
+
+        mappings = new ExceptionMappings();
+        customizers.orderedStream()
+            .forEach(customizer -> customizer.customize(mappings));
+
+        return mappings;
+    }
+
+    @Bean("fieldFailureMapper")
+    public FieldFailureMapper getFieldFailureMapper(final ErrorProperties properties,
+            final ObjectProvider<FieldFailureCodeMapper> codeMapper) {
+        final FieldFailureCodeMapper mapper;
+
+        // The codes table is only built if there is no custom mapper
+        mapper = codeMapper.getIfAvailable(() -> new FieldFailureCodeTable(properties.failures()
+            .codes()));
+
+        return new FieldFailureMapper(mapper, properties.failures()
+            .max());
+    }
+
+    @Bean("reactiveGlobalExceptionHandler")
+    public ReactiveGlobalExceptionHandler getReactiveGlobalExceptionHandler(final ErrorProperties properties,
+            final ObjectProvider<ServerCodecConfigurer> codecConfigurer,
+            final ObjectProvider<ExceptionHandlingListener> listener, final ExceptionMappings exceptionMappings,
+            final FieldFailureMapper failureMapper) {
+        final ExceptionLoggingPolicy     policy;
+        final List<HttpMessageWriter<?>> writers;
+
+        policy = new ExceptionLoggingPolicy(properties.logging()
+            .clientStackTraces(),
+            properties.logging()
+                .maxPerWindow(),
+            properties.logging()
+                .window());
+
+        // The errors are written with the same codecs used for the responses
+        writers = codecConfigurer.getIfAvailable(ServerCodecConfigurer::create)
+            .getWriters();
+
+        return new ReactiveGlobalExceptionHandler(policy, writers,
+            listener.getIfAvailable(() -> ExceptionHandlingListener.NO_OP), exceptionMappings, failureMapper);
+    }
+
+    @Bean("reactivePaginationArgumentResolver")
+    public ReactivePaginationArgumentResolver getReactivePaginationArgumentResolver(
+            final PaginationProperties properties, final ObjectProvider<ArgumentResolutionListener> listener) {
+        return new ReactivePaginationArgumentResolver(properties.maxSize(), properties.oversizePolicy(),
+            properties.malformedPolicy(), listener.getIfAvailable(() -> ArgumentResolutionListener.NO_OP));
+    }
+
+    @Bean("reactiveSortingArgumentResolver")
+    public ReactiveSortingArgumentResolver getReactiveSortingArgumentResolver(final SortingProperties properties,
+            final ObjectProvider<ArgumentResolutionListener> listener) {
+        final int cacheSize;
+
+        if (properties.cache()
+            .enabled()) {
+            cacheSize = properties.cache()
+                .size();
+        } else {
+            cacheSize = 0;
+        }
+
+        return new ReactiveSortingArgumentResolver(cacheSize,
+            listener.getIfAvailable(() -> ArgumentResolutionListener.NO_OP));
+    }
+
+    @Bean("webServiceJacksonModule")
+    public WebServiceJacksonModule getWebServiceJacksonModule() {
+        return new WebServiceJacksonModule();
+    }
+
+}
@@ -0,0 +1,169 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.micrometer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.bernardomg.pagination.domain.Sorting.Direction;
+import com.bernardomg.ws.springframework.request.ArgumentResolutionListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the argument resolutions into Micrometer.
+ * <p>
+ * The sort properties come from the clients, so only a limited number of them are used as tags. Any other property is
+ * tagged as {@value #OTHER_PROPERTY}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class MicrometerArgumentResolutionListener implements ArgumentResolutionListener {
+
+    /**
+     * Default maximum number of sort properties used as tags.
+     */
+    public static final int                            DEFAULT_MAX_PROPERTIES = 100;
+
+    /**
+     * Tag for the sort properties over the limit.
+     */
+    public static final String                         OTHER_PROPERTY         = "other";
+
+    /**
+     * Effective page sizes, by argument type.
+     */
+    private final Map<Class<?>, DistributionSummary>   effectiveSizes         = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of sort properties used as tags.
+     */
+    private final int                                  maxProperties;
+
+    /**
+     * Sort properties used as tags.
+     */
+    private final Set<String>                          properties             = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Meter registry.
+     */
+    private final MeterRegistry                        registry;
+
+    /**
+     * Requested page sizes, by argument type.
+     */
+    private final Map<Class<?>, DistributionSummary>   requestedSizes         = new ConcurrentHashMap<>();
+
+    /**
+     * Sort property counters, by direction and property tag.
+     */
+    private final Map<Direction, Map<String, Counter>> sortCounters           = new EnumMap<>(Direction.class);
+
+    /**
+     * Resolution timers, by argument type.
+     */
+    private final Map<Class<?>, Timer>                 timers                 = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a listener with the default limit of sort properties.
+     *
+     * @param meterRegistry
+     *            registry for the meters
+     */
+    public MicrometerArgumentResolutionListener(final MeterRegistry meterRegistry) {
+        this(meterRegistry, DEFAULT_MAX_PROPERTIES);
+    }
+
+    /**
+     * Constructs a listener with the specified limit of sort properties.
+     *
+     * @param meterRegistry
+     *            registry for the meters
+     * @param maxProps
+     *            maximum number of sort properties used as tags
+     */
+    public MicrometerArgumentResolutionListener(final MeterRegistry meterRegistry, final int maxProps) {
+        super();
+
+        registry = meterRegistry;
+        maxProperties = maxProps;
+        for (final Direction direction : Direction.values()) {
+            sortCounters.put(direction, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public final void onPageSize(final Class<?> type, final int requested, final int effective) {
+        requestedSizes.computeIfAbsent(type, t -> DistributionSummary.builder("bernardomg.ws.pagination.size.requested")
+            .description("Page sizes requested")
+            .tag("type", t.getSimpleName())
+            .register(registry))
+            .record(requested);
+        effectiveSizes.computeIfAbsent(type, t -> DistributionSummary.builder("bernardomg.ws.pagination.size.effective")
+            .description("Page sizes used, after applying the limits")
+            .tag("type", t.getSimpleName())
+            .register(registry))
+            .record(effective);
+    }
+
+    @Override
+    public final void onResolved(final Class<?> type, final long nanos) {
+        timers.computeIfAbsent(type, t -> Timer.builder("bernardomg.ws.argument.resolution")
+            .description("Time taken to resolve the request arguments")
+            .tag("type", t.getSimpleName())
+            .register(registry))
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public final void onSortProperty(final String property, final Direction direction) {
+        final String tag;
+
+        if (properties.contains(property)) {
+            tag = property;
+        } else if ((properties.size() < maxProperties) && properties.add(property)) {
+            tag = property;
+        } else {
+            tag = OTHER_PROPERTY;
+        }
+
+        sortCounters.get(direction)
+            .computeIfAbsent(tag, p -> Counter.builder("bernardomg.ws.sorting.property")
+                .description("Properties used for sorting")
+                .tag("property", p)
+                .tag("direction", direction.name())
+                .register(registry))
+            .increment();
+    }
+
+}
@@ -0,0 +1,88 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.micrometer;
+
+import java.util.concurrent.TimeUnit;
+
+import com.bernardomg.ws.springframework.response.CompressionListener;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the compressed responses into Micrometer. The response sizes before and after compressing them are
+ * recorded, along the time spent compressing them.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class MicrometerCompressionListener implements CompressionListener {
+
+    /**
+     * Compressed response sizes.
+     */
+    private final DistributionSummary compressedSizes;
+
+    /**
+     * Response sizes before compressing them.
+     */
+    private final DistributionSummary originalSizes;
+
+    /**
+     * Compression timer.
+     */
+    private final Timer               timer;
+
+    /**
+     * Constructs a listener.
+     *
+     * @param meterRegistry
+     *            registry for the meters
+     */
+    public MicrometerCompressionListener(final MeterRegistry meterRegistry) {
+        super();
+
+        originalSizes = DistributionSummary.builder("bernardomg.ws.compression.original")
+            .description("Response sizes before compressing them")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        compressedSizes = DistributionSummary.builder("bernardomg.ws.compression.compressed")
+            .description("Compressed response sizes, as sent")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        timer = Timer.builder("bernardomg.ws.compression.time")
+            .description("Time spent compressing the responses")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public final void onCompressed(final long originalBytes, final long compressedBytes, final long nanos) {
+        originalSizes.record(originalBytes);
+        compressedSizes.record(compressedBytes);
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+}
@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.micrometer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatusCode;
+
+import com.bernardomg.ws.springframework.error.ExceptionHandlingListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the handled exceptions into Micrometer. Each exception type and status has its own timer, which also counts
+ * the handled exceptions.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class MicrometerExceptionHandlingListener implements ExceptionHandlingListener {
+
+    /**
+     * Meter registry.
+     */
+    private final MeterRegistry                             registry;
+
+    /**
+     * Handling timers, by status and exception type.
+     */
+    private final Map<HttpStatusCode, Map<Class<?>, Timer>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a listener.
+     *
+     * @param meterRegistry
+     *            registry for the meters
+     */
+    public MicrometerExceptionHandlingListener(final MeterRegistry meterRegistry) {
+        super();
+
+        registry = meterRegistry;
+    }
+
+    @Override
+    public final void onHandled(final Class<? extends Throwable> type, final HttpStatusCode status, final long nanos) {
+        timers.computeIfAbsent(status, s -> new ConcurrentHashMap<>())
+            .computeIfAbsent(type, t -> Timer.builder("bernardomg.ws.exception.handled")
+                .description("Exceptions handled, and the time taken to handle them")
+                .tag("exception", t.getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(registry))
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+}
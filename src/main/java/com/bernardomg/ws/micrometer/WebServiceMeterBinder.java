@@ -0,0 +1,132 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.micrometer;
+
+import java.util.Objects;
+
+import com.bernardomg.ws.springframework.error.ExceptionLogCounters;
+import com.bernardomg.ws.springframework.request.PageSizeCounters;
+import com.bernardomg.ws.springframework.request.SortingCounters;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Binds the counters kept by the resolvers and the exception handler to Micrometer. Any of them can be null, and then
+ * its counters are not bound. These can be the servlet or the reactive components, as both keep the same counters.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class WebServiceMeterBinder implements MeterBinder {
+
+    /**
+     * Cursor pagination argument resolver.
+     */
+    private final PageSizeCounters     cursorPaginationResolver;
+
+    /**
+     * Exception handler.
+     */
+    private final ExceptionLogCounters exceptionHandler;
+
+    /**
+     * Pagination argument resolver.
+     */
+    private final PageSizeCounters     paginationResolver;
+
+    /**
+     * Sorting argument resolver.
+     */
+    private final SortingCounters      sortingResolver;
+
+    /**
+     * Constructs a binder for the received components.
+     *
+     * @param pagination
+     *            pagination argument resolver
+     * @param cursorPagination
+     *            cursor pagination argument resolver
+     * @param sorting
+     *            sorting argument resolver
+     * @param handler
+     *            exception handler
+     */
+    public WebServiceMeterBinder(final PageSizeCounters pagination, final PageSizeCounters cursorPagination,
+            final SortingCounters sorting, final ExceptionLogCounters handler) {
+        super();
+
+        paginationResolver = pagination;
+        cursorPaginationResolver = cursorPagination;
+        sortingResolver = sorting;
+        exceptionHandler = handler;
+    }
+
+    @Override
+    public final void bindTo(final MeterRegistry registry) {
+        if (Objects.nonNull(paginationResolver)) {
+            bindPageSizes(registry, "Pagination", paginationResolver);
+        }
+        if (Objects.nonNull(cursorPaginationResolver)) {
+            bindPageSizes(registry, "CursorPagination", cursorPaginationResolver);
+        }
+        if (Objects.nonNull(sortingResolver)) {
+            FunctionCounter.builder("bernardomg.ws.sorting.cache.hits", sortingResolver, SortingCounters::getCacheHits)
+                .description("Sortings taken from the cache")
+                .register(registry);
+            FunctionCounter.builder("bernardomg.ws.sorting.cache.misses", sortingResolver,
+                SortingCounters::getCacheMisses)
+                .description("Sortings parsed, as they weren't in the cache")
+                .register(registry);
+            FunctionCounter.builder("bernardomg.ws.sorting.property.dropped", sortingResolver,
+                SortingCounters::getDroppedSortProperties)
+                .description("Sort properties dropped, as they weren't allowed")
+                .register(registry);
+            FunctionCounter.builder("bernardomg.ws.sorting.property.rejected", sortingResolver,
+                SortingCounters::getRejectedSortProperties)
+                .description("Sort properties rejected, as they weren't allowed")
+                .register(registry);
+        }
+        if (Objects.nonNull(exceptionHandler)) {
+            FunctionCounter.builder("bernardomg.ws.exception.logs.suppressed", exceptionHandler,
+                ExceptionLogCounters::getSuppressedLogs)
+                .description("Exception logs suppressed by the rate limit")
+                .register(registry);
+        }
+    }
+
+    private final void bindPageSizes(final MeterRegistry registry, final String type, final PageSizeCounters resolver) {
+        FunctionCounter.builder("bernardomg.ws.pagination.size.clamped", resolver, PageSizeCounters::getClampedSizes)
+            .description("Page sizes clamped to the maximum")
+            .tag("type", type)
+            .register(registry);
+        FunctionCounter.builder("bernardomg.ws.pagination.size.rejected", resolver, PageSizeCounters::getRejectedSizes)
+            .description("Requests rejected for asking an oversized page")
+            .tag("type", type)
+            .register(registry);
+    }
+
+}
@@ -0,0 +1,63 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.request.domain.model;
+
+import java.util.Optional;
+
+/**
+ * Keyset pagination. Instead of a page number, it contains an opaque cursor pointing to the last element already
+ * read, so the next page starts just after it.
+ * <p>
+ * The cursor contents are decided by each service, which usually encodes the sorting values of the last element. A
+ * missing cursor means the first page is requested.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param cursor
+ *            cursor pointing to the last element read, or {@code null} for the first page
+ * @param size
+ *            page size
+ */
+public record CursorPagination(String cursor, int size) {
+
+    /**
+     * Returns the cursor, if any.
+     *
+     * @return the cursor, or an empty optional for the first page
+     */
+    public final Optional<String> after() {
+        return Optional.ofNullable(cursor);
+    }
+
+    /**
+     * Checks if this points to the first page.
+     *
+     * @return {@code true} if there is no cursor, {@code false} otherwise
+     */
+    public final boolean isFirst() {
+        return cursor == null;
+    }
+
+}
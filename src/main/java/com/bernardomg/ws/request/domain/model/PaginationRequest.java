@@ -0,0 +1,58 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.request.domain.model;
+
+import java.util.Objects;
+
+import com.bernardomg.pagination.domain.Pagination;
+
+/**
+ * Pagination which also tells if the total number of elements should be counted. Counting usually requires an extra
+ * query, which is expensive for big tables, so clients which don't need the totals can ask for a slice instead, which
+ * only tells if there is a next page.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param pagination
+ *            pagination to apply
+ * @param count
+ *            {@code true} to count the total elements, {@code false} for a slice
+ */
+public record PaginationRequest(Pagination pagination, boolean count) {
+
+    public PaginationRequest {
+        Objects.requireNonNull(pagination, "Received null pagination");
+    }
+
+    /**
+     * Checks if a slice was requested, so the total elements shouldn't be counted.
+     *
+     * @return {@code true} for a slice, {@code false} if the total elements should be counted
+     */
+    public final boolean isSlice() {
+        return !count;
+    }
+
+}
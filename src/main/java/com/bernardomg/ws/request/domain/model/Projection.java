@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.request.domain.model;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fields requested by the client, as a tree where each field contains the projection for its own fields. Only these
+ * fields are written into the response, and services can read them through {@link #paths()} to query only the data
+ * required.
+ * <p>
+ * A projection which is not restricted includes all the fields, except for those in the tree, which may be restricted
+ * themselves. A field requested without nested fields is included completely.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param restricted
+ *            {@code true} if only the fields in the tree are included
+ * @param fields
+ *            projection for each field
+ */
+public record Projection(boolean restricted, Map<String, Projection> fields) {
+
+    /**
+     * Projection including all the fields.
+     */
+    public static final Projection ALL = new Projection(false, Map.of());
+
+    public Projection {
+        fields = Map.copyOf(fields);
+    }
+
+    /**
+     * Returns the projection for a field. If the field has no projection, all its fields are included.
+     *
+     * @param field
+     *            field to get the projection for
+     * @return projection for the field
+     */
+    public final Projection get(final String field) {
+        return fields.getOrDefault(field, ALL);
+    }
+
+    /**
+     * Checks if a field is included.
+     *
+     * @param field
+     *            field to check
+     * @return {@code true} if the field is included, {@code false} otherwise
+     */
+    public final boolean includes(final String field) {
+        return !restricted || fields.containsKey(field);
+    }
+
+    /**
+     * Checks if all the fields are included, at any depth.
+     *
+     * @return {@code true} if nothing is filtered out, {@code false} otherwise
+     */
+    public final boolean isAll() {
+        return !restricted && fields.isEmpty();
+    }
+
+    /**
+     * Returns the paths to the requested fields, with the nested fields separated by dots, such as {@code a.b}.
+     *
+     * @return the paths to the requested fields
+     */
+    public final Set<String> paths() {
+        final Set<String> paths;
+
+        paths = new LinkedHashSet<>();
+        fields.forEach((name, projection) -> {
+            if (projection.fields.isEmpty()) {
+                paths.add(name);
+            } else {
+                projection.paths()
+                    .forEach(path -> paths.add(name + "." + path));
+            }
+        });
+
+        return paths;
+    }
+
+}
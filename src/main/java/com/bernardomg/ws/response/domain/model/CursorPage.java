@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.response.domain.model;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Page acquired through keyset pagination. Instead of totals, it contains the cursor to read the next page.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            content type
+ * @param content
+ *            page content
+ * @param size
+ *            page size
+ * @param elementsInPage
+ *            number of elements in the page
+ * @param next
+ *            cursor for the next page, or {@code null} if this is the last one
+ * @param last
+ *            {@code true} if this is the last page
+ */
+public record CursorPage<T>(Collection<T> content, int size, int elementsInPage, String next, boolean last) {
+
+    public CursorPage {
+        Objects.requireNonNull(content, "Received null content");
+    }
+
+    /**
+     * Creates a page from its content and the cursor for the next page.
+     *
+     * @param <T>
+     *            content type
+     * @param content
+     *            page content
+     * @param size
+     *            page size
+     * @param next
+     *            cursor for the next page, or {@code null} if this is the last one
+     * @return page with the received content
+     */
+    public static final <T> CursorPage<T> of(final Collection<T> content, final int size, final String next) {
+        return new CursorPage<>(content, size, content.size(), next, next == null);
+    }
+
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.response.domain.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.pagination.domain.Sorting;
+
+/**
+ * Page of data which doesn't know the total number of elements. It only tells if there is a next page, so it can be
+ * read without counting all the elements.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            content type
+ * @param content
+ *            page content
+ * @param size
+ *            page size
+ * @param page
+ *            page number
+ * @param elementsInPage
+ *            number of elements in the page
+ * @param first
+ *            {@code true} if this is the first page
+ * @param hasNext
+ *            {@code true} if there is a next page
+ * @param sort
+ *            sorting applied
+ */
+public record Slice<T>(Collection<T> content, int size, int page, int elementsInPage, boolean first, boolean hasNext,
+        Sorting sort) {
+
+    public Slice {
+        Objects.requireNonNull(content, "Received null content");
+    }
+
+    /**
+     * Creates a slice from its content.
+     *
+     * @param <T>
+     *            content type
+     * @param content
+     *            page content
+     * @param pagination
+     *            pagination applied
+     * @param sort
+     *            sorting applied
+     * @param hasNext
+     *            {@code true} if there is a next page
+     * @return slice with the received content
+     */
+    public static final <T> Slice<T> of(final Collection<T> content, final Pagination pagination, final Sorting sort,
+            final boolean hasNext) {
+        return new Slice<>(content, pagination.size(), pagination.page(), content.size(), pagination.page() == 1,
+            hasNext, sort);
+    }
+
+    /**
+     * Creates a slice from data read with one element over the page size. If that extra element exists there is a next
+     * page, and it is removed from the content.
+     * <p>
+     * This allows knowing if there is a next page with the same query which reads the content.
+     *
+     * @param <T>
+     *            content type
+     * @param read
+     *            data read, up to the page size plus one
+     * @param pagination
+     *            pagination applied
+     * @param sort
+     *            sorting applied
+     * @return slice with the received content
+     */
+    public static final <T> Slice<T> ofLookahead(final List<T> read, final Pagination pagination,
+            final Sorting sort) {
+        final boolean hasNext;
+        final List<T> content;
+
+        hasNext = read.size() > pagination.size();
+        if (hasNext) {
+            content = read.subList(0, pagination.size());
+        } else {
+            content = read;
+        }
+
+        return of(content, pagination, sort, hasNext);
+    }
+
+}
@@ -0,0 +1,97 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.response.domain.model;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.pagination.domain.Sorting;
+
+/**
+ * Page with its content as a stream. The page data is written first, and then the elements are written one by one, so
+ * the memory used depends on the size of a single element, and not on the page size.
+ * <p>
+ * The number of elements in the page is not known until the stream is consumed, so it is written after the content.
+ * The stream is closed once it is written.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            content type
+ * @param content
+ *            page content
+ * @param size
+ *            page size
+ * @param page
+ *            page number
+ * @param totalElements
+ *            total number of elements
+ * @param totalPages
+ *            total number of pages
+ * @param first
+ *            {@code true} if this is the first page
+ * @param last
+ *            {@code true} if this is the last page
+ * @param sort
+ *            sorting applied
+ */
+public record StreamPage<T>(Stream<T> content, int size, int page, long totalElements, int totalPages, boolean first,
+        boolean last, Sorting sort) {
+
+    public StreamPage {
+        Objects.requireNonNull(content, "Received null content");
+    }
+
+    /**
+     * Creates a page from its content and the total number of elements.
+     *
+     * @param <T>
+     *            content type
+     * @param content
+     *            page content
+     * @param pagination
+     *            pagination applied
+     * @param totalElements
+     *            total number of elements
+     * @param sort
+     *            sorting applied
+     * @return page with the received content
+     */
+    public static final <T> StreamPage<T> of(final Stream<T> content, final Pagination pagination,
+            final long totalElements, final Sorting sort) {
+        final int totalPages;
+
+        if (pagination.size() > 0) {
+            totalPages = (int) ((totalElements + pagination.size() - 1) / pagination.size());
+        } else {
+            totalPages = 0;
+        }
+
+        return new StreamPage<>(content, pagination.size(), pagination.page(), totalElements, totalPages,
+            pagination.page() == 1, pagination.page() >= totalPages, sort);
+    }
+
+}
@@ -0,0 +1,257 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.error;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import com.bernardomg.ws.response.domain.model.ErrorResponse;
+
+/**
+ * Error response bodies serialized in advance. The handler returns the same few constant errors again and again, so
+ * these are serialized once, for each media type supported by the message converters, and written as they are.
+ * <p>
+ * The media type is chosen from the request {@code Accept} header. If no serialized body is compatible, the error
+ * response is returned as usual, and the message converters take care of it.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ErrorBodies {
+
+    /**
+     * Serialized error body.
+     *
+     * @param mediaType
+     *            body media type
+     * @param content
+     *            serialized body
+     */
+    private record ErrorBody(MediaType mediaType, byte[] content) {
+
+    }
+
+    /**
+     * In-memory output message, to serialize the bodies.
+     */
+    private static final class ErrorOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body    = new ByteArrayOutputStream();
+
+        private final HttpHeaders           headers = new HttpHeaders();
+
+        @Override
+        public final OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public final HttpHeaders getHeaders() {
+            return headers;
+        }
+
+    }
+
+    /**
+     * Maximum number of cached {@code Accept} headers.
+     */
+    private static final int                                    MAX_ACCEPTED = 64;
+
+    /**
+     * Media type chosen for each {@code Accept} header. Empty if there is no compatible media type.
+     */
+    private final Map<String, Optional<MediaType>>              accepted     = new ConcurrentHashMap<>();
+
+    /**
+     * Serialized bodies, for each error response and media type. The media types keep the converters order.
+     */
+    private final Map<ErrorResponse, Map<MediaType, ErrorBody>> bodies;
+
+    /**
+     * Media types which have serialized bodies, in the converters order.
+     */
+    private final List<MediaType>                               mediaTypes;
+
+    /**
+     * Constructs the bodies for the error responses, serializing them with the message converters.
+     *
+     * @param converters
+     *            message converters for the error responses
+     * @param responses
+     *            error responses to serialize
+     */
+    public ErrorBodies(final Collection<HttpMessageConverter<?>> converters,
+            final Collection<ErrorResponse> responses) {
+        super();
+
+        bodies = new LinkedHashMap<>();
+        for (final ErrorResponse response : responses) {
+            bodies.put(response, serialize(converters, response));
+        }
+        mediaTypes = bodies.values()
+            .stream()
+            .findFirst()
+            .map(b -> List.copyOf(b.keySet()))
+            .orElse(List.of());
+    }
+
+    /**
+     * Returns the response entity for the error. If there is a serialized body compatible with the request, it is used
+     * as body. Otherwise the error response is the body.
+     *
+     * @param status
+     *            response status
+     * @param response
+     *            error response
+     * @param request
+     *            request being answered
+     * @return the response entity for the error
+     */
+    public final ResponseEntity<Object> toResponseEntity(final HttpStatusCode status, final ErrorResponse response,
+            final WebRequest request) {
+        final Map<MediaType, ErrorBody> serialized;
+        final Optional<ErrorBody>       serializedBody;
+        final ErrorBody                 body;
+        final ResponseEntity<Object>    entity;
+
+        serialized = bodies.get(response);
+        if ((serialized == null) || (request == null)) {
+            serializedBody = Optional.empty();
+        } else {
+            serializedBody = getMediaType(request.getHeader(HttpHeaders.ACCEPT)).map(serialized::get);
+        }
+
+        if (serializedBody.isPresent()) {
+            body = serializedBody.get();
+            entity = ResponseEntity.status(status)
+                .contentType(body.mediaType())
+                .contentLength(body.content().length)
+                .body(body.content());
+        } else {
+            entity = ResponseEntity.status(status)
+                .body(response);
+        }
+
+        return entity;
+    }
+
+    private final Optional<MediaType> chooseMediaType(final String accept) {
+        List<MediaType>     acceptable;
+        Optional<MediaType> chosen;
+
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (final InvalidMediaTypeException e) {
+            acceptable = new ArrayList<>();
+        }
+        if (acceptable.isEmpty()) {
+            acceptable.add(MediaType.ALL);
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+
+        chosen = Optional.empty();
+        for (final MediaType acceptableType : acceptable) {
+            chosen = mediaTypes.stream()
+                .filter(acceptableType::isCompatibleWith)
+                .findFirst();
+            if (chosen.isPresent()) {
+                break;
+            }
+        }
+
+        return chosen;
+    }
+
+    private final Optional<MediaType> getMediaType(final String accept) {
+        final String        key;
+        Optional<MediaType> mediaType;
+
+        if (accept == null) {
+            key = "";
+        } else {
+            key = accept;
+        }
+        mediaType = accepted.get(key);
+        if (mediaType == null) {
+            mediaType = chooseMediaType(key);
+            // Bounded, so clients can't flood it with made up headers
+            if (accepted.size() < MAX_ACCEPTED) {
+                accepted.putIfAbsent(key, mediaType);
+            }
+        }
+
+        return mediaType;
+    }
+
+    @SuppressWarnings("unchecked")
+    private final Map<MediaType, ErrorBody> serialize(final Collection<HttpMessageConverter<?>> converters,
+            final ErrorResponse response) {
+        final Map<MediaType, ErrorBody> serialized;
+        ErrorOutputMessage              message;
+        MediaType                       contentType;
+
+        serialized = new LinkedHashMap<>();
+        for (final HttpMessageConverter<?> converter : converters) {
+            for (final MediaType mediaType : converter.getSupportedMediaTypes(ErrorResponse.class)) {
+                if (mediaType.isConcrete() && !serialized.containsKey(mediaType)
+                        && converter.canWrite(ErrorResponse.class, mediaType)) {
+                    message = new ErrorOutputMessage();
+                    try {
+                        ((HttpMessageConverter<ErrorResponse>) converter).write(response, mediaType, message);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    contentType = message.getHeaders()
+                        .getContentType();
+                    if (contentType == null) {
+                        contentType = mediaType;
+                    }
+                    serialized.put(mediaType, new ErrorBody(contentType, message.body.toByteArray()));
+                }
+            }
+        }
+
+        return serialized;
+    }
+
+}
@@ -0,0 +1,56 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.error;
+
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Receives the exceptions handled by {@link GlobalExceptionHandler}, to gather metrics about them. All the methods do
+ * nothing by default.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface ExceptionHandlingListener {
+
+    /**
+     * Listener which ignores everything.
+     */
+    public static final ExceptionHandlingListener NO_OP = new ExceptionHandlingListener() {};
+
+    /**
+     * Receives a handled exception.
+     *
+     * @param type
+     *            exception type
+     * @param status
+     *            response status
+     * @param nanos
+     *            handling time, in nanoseconds
+     */
+    public default void onHandled(final Class<? extends Throwable> type, final HttpStatusCode status,
+            final long nanos) {}
+
+}
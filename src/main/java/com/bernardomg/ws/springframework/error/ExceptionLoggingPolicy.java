@@ -0,0 +1,234 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.error;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Decides how the handled exceptions are logged.
+ * <p>
+ * Server errors are logged with their full stack trace, while client errors are logged as a single line, unless client
+ * stack traces are enabled. Formatting stack traces is expensive, and a flood of malformed requests shouldn't fill the
+ * logs with them.
+ * <p>
+ * Also, the logs are rate limited for each exception type. Only a number of logs are written for each time window, the
+ * rest are suppressed. When a window ends with suppressed logs, a summary line is written, and the total of suppressed
+ * logs is kept.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ExceptionLoggingPolicy {
+
+    /**
+     * Logs written for an exception type in the current window.
+     */
+    private static final class LogWindow {
+
+        /**
+         * Logs in the window.
+         */
+        private final AtomicInteger count = new AtomicInteger();
+
+        /**
+         * Window start, in nanoseconds.
+         */
+        private final AtomicLong    start;
+
+        private LogWindow(final long now) {
+            super();
+
+            start = new AtomicLong(now);
+        }
+
+    }
+
+    /**
+     * Default number of logs for each exception type and window.
+     */
+    public static final int                DEFAULT_MAX_PER_WINDOW = 10;
+
+    /**
+     * Default window length.
+     */
+    public static final Duration           DEFAULT_WINDOW         = Duration.ofSeconds(1);
+
+    /**
+     * Log client errors with their stack trace.
+     */
+    private final boolean                  clientStackTraces;
+
+    /**
+     * Maximum logs for each exception type and window. If it is not positive the logs are not limited.
+     */
+    private final int                      maxPerWindow;
+
+    /**
+     * Number of suppressed logs.
+     */
+    private final LongAdder                suppressed             = new LongAdder();
+
+    /**
+     * Window length in nanoseconds.
+     */
+    private final long                     windowLength;
+
+    /**
+     * Current window for each exception type.
+     */
+    private final Map<Class<?>, LogWindow> windows                = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor. Client errors are logged without stack traces, and there are
+     * {@value #DEFAULT_MAX_PER_WINDOW} logs for each exception type and second.
+     */
+    public ExceptionLoggingPolicy() {
+        this(false, DEFAULT_MAX_PER_WINDOW, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Constructs a policy with the specified limits.
+     *
+     * @param clientTraces
+     *            log client errors with their stack traces
+     * @param max
+     *            maximum logs for each exception type and window, if it is not positive the logs are not limited
+     * @param window
+     *            window length
+     */
+    public ExceptionLoggingPolicy(final boolean clientTraces, final int max, final Duration window) {
+        super();
+
+        clientStackTraces = clientTraces;
+        maxPerWindow = max;
+        windowLength = window.toNanos();
+    }
+
+    /**
+     * Returns the number of logs suppressed by the rate limit.
+     *
+     * @return the number of suppressed logs
+     */
+    public final long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Logs the exception, if it is not over the rate limit.
+     *
+     * @param log
+     *            logger to write into
+     * @param status
+     *            response status for the exception
+     * @param ex
+     *            exception to log
+     */
+    public final void log(final Logger log, final HttpStatusCode status, final Exception ex) {
+        final Level level;
+
+        if (status.is5xxServerError()) {
+            level = Level.ERROR;
+        } else {
+            level = Level.WARN;
+        }
+
+        log(log, status, level, ex);
+    }
+
+    /**
+     * Logs the exception with the received level, if it is not over the rate limit. If the level is not enabled
+     * nothing is done, so these exceptions don't take logs from the rate limit.
+     *
+     * @param log
+     *            logger to write into
+     * @param status
+     *            response status for the exception
+     * @param level
+     *            log level
+     * @param ex
+     *            exception to log
+     */
+    public final void log(final Logger log, final HttpStatusCode status, final Level level, final Exception ex) {
+        // Logs which won't be written are neither counted nor suppressed
+        if (log.isEnabledForLevel(level)) {
+            if (!acquire(log, ex.getClass())) {
+                suppressed.increment();
+            } else if (status.is5xxServerError() || clientStackTraces) {
+                log.atLevel(level)
+                    .setCause(ex)
+                    .log(ex.getMessage());
+            } else {
+                log.atLevel(level)
+                    .log("{} {}: {}", status.value(), ex.getClass()
+                        .getName(), ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Takes a log from the current window for the exception type. If the window is over, a new one is started.
+     *
+     * @param log
+     *            logger to write the suppressed summary into
+     * @param type
+     *            exception type
+     * @return {@code true} if the exception can be logged, {@code false} if it is over the limit
+     */
+    private final boolean acquire(final Logger log, final Class<?> type) {
+        final long      now;
+        final LogWindow window;
+        final long      start;
+        final int       previous;
+        final boolean   acquired;
+
+        if (maxPerWindow <= 0) {
+            acquired = true;
+        } else {
+            now = System.nanoTime();
+            window = windows.computeIfAbsent(type, k -> new LogWindow(now));
+            start = window.start.get();
+            if (((now - start) >= windowLength) && window.start.compareAndSet(start, now)) {
+                // New window
+                previous = window.count.getAndSet(0);
+                if (previous > maxPerWindow) {
+                    log.warn("Suppressed {} logs for {}", previous - maxPerWindow, type.getName());
+                }
+            }
+
+            acquired = window.count.incrementAndGet() <= maxPerWindow;
+        }
+
+        return acquired;
+    }
+
+}
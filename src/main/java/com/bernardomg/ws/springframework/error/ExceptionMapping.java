@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.error;
+
+import java.util.Objects;
+
+import org.slf4j.event.Level;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import com.bernardomg.ws.response.domain.model.ErrorResponse;
+
+/**
+ * How an exception is turned into an error response.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param status
+ *            response status
+ * @param code
+ *            error code
+ * @param message
+ *            error message
+ * @param logLevel
+ *            level for logging the exception
+ */
+public record ExceptionMapping(HttpStatusCode status, String code, String message, Level logLevel) {
+
+    /**
+     * Bad request mapping.
+     */
+    public static final ExceptionMapping BAD_REQUEST    = new ExceptionMapping(HttpStatus.BAD_REQUEST, "Bad request");
+
+    /**
+     * Internal error mapping.
+     */
+    public static final ExceptionMapping INTERNAL_ERROR = new ExceptionMapping(HttpStatus.INTERNAL_SERVER_ERROR,
+        "Internal error");
+
+    public ExceptionMapping {
+        Objects.requireNonNull(status);
+        Objects.requireNonNull(code);
+        Objects.requireNonNull(message);
+        Objects.requireNonNull(logLevel);
+    }
+
+    /**
+     * Constructs a mapping with the status value as code. Server errors are logged as errors, and the rest as warnings.
+     *
+     * @param status
+     *            response status
+     * @param message
+     *            error message
+     */
+    public ExceptionMapping(final HttpStatusCode status, final String message) {
+        this(status, String.valueOf(status.value()), message, status.is5xxServerError() ? Level.ERROR : Level.WARN);
+    }
+
+    /**
+     * Returns a copy of this mapping with the received log level.
+     *
+     * @param level
+     *            level for logging the exception
+     * @return a copy of this mapping with the received log level
+     */
+    public final ExceptionMapping withLogLevel(final Level level) {
+        return new ExceptionMapping(status, code, message, level);
+    }
+
+    /**
+     * Returns the error response for this mapping.
+     *
+     * @return the error response for this mapping
+     */
+    public final ErrorResponse toResponse() {
+        return new ErrorResponse(code, message);
+    }
+
+}
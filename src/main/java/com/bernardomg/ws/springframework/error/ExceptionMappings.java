@@ -0,0 +1,154 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.error;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.event.Level;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.bernardomg.ws.springframework.request.MalformedParameterException;
+
+import jakarta.validation.ValidationException;
+
+/**
+ * Registry of exception mappings. An exception takes the mapping of its closest registered class, walking up its class
+ * hierarchy.
+ * <p>
+ * The hierarchy is walked once for each concrete exception class, and the result is cached. So finding the mapping
+ * for an exception is a single map lookup, even while handling a flood of errors. Registering a mapping clears the
+ * cache, so the mappings are expected to be registered on startup.
+ * <p>
+ * Exceptions which aren't mapped are left to the handlers, which treat them as internal errors.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ExceptionMappings {
+
+    /**
+     * Mappings found for each exception class. Empty if the class isn't mapped.
+     */
+    private final Map<Class<?>, Optional<ExceptionMapping>> found    = new ConcurrentHashMap<>();
+
+    /**
+     * Registered mappings.
+     */
+    private final Map<Class<?>, ExceptionMapping>           mappings = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor. Registers the default mappings, which send bad requests for invalid arguments, messages,
+     * data and validations.
+     */
+    public ExceptionMappings() {
+        super();
+
+        register(IllegalArgumentException.class, ExceptionMapping.BAD_REQUEST);
+        register(TypeMismatchException.class, ExceptionMapping.BAD_REQUEST);
+        register(HttpMessageConversionException.class, ExceptionMapping.BAD_REQUEST);
+        register(HttpMessageNotWritableException.class, ExceptionMapping.INTERNAL_ERROR);
+        register(DataAccessException.class, ExceptionMapping.BAD_REQUEST);
+        register(ValidationException.class, ExceptionMapping.BAD_REQUEST);
+        // Usually comes from junk requests, so it is not logged by default
+        register(MalformedParameterException.class, ExceptionMapping.BAD_REQUEST.withLogLevel(Level.DEBUG));
+    }
+
+    /**
+     * Returns the mapping for the exception class. This is the mapping of the closest registered class in its
+     * hierarchy.
+     *
+     * @param type
+     *            exception class
+     * @return the mapping for the exception class, or an empty optional if it isn't mapped
+     */
+    public final Optional<ExceptionMapping> find(final Class<? extends Throwable> type) {
+        return found.computeIfAbsent(type, this::resolve);
+    }
+
+    /**
+     * Returns all the registered mappings.
+     *
+     * @return all the registered mappings
+     */
+    public final Collection<ExceptionMapping> getMappings() {
+        return List.copyOf(mappings.values());
+    }
+
+    /**
+     * Registers a mapping for the exception class, and its subclasses. Replaces any mapping already registered for the
+     * same class.
+     *
+     * @param type
+     *            exception class to map
+     * @param mapping
+     *            mapping for the exception class
+     * @return this registry
+     */
+    public final ExceptionMappings register(final Class<? extends Throwable> type, final ExceptionMapping mapping) {
+        mappings.put(type, mapping);
+        found.clear();
+
+        return this;
+    }
+
+    /**
+     * Registers a mapping for the exception class, and its subclasses, with the status value as code.
+     *
+     * @param type
+     *            exception class to map
+     * @param status
+     *            response status
+     * @param message
+     *            error message
+     * @return this registry
+     */
+    public final ExceptionMappings register(final Class<? extends Throwable> type, final HttpStatus status,
+            final String message) {
+        return register(type, new ExceptionMapping(status, message));
+    }
+
+    private final Optional<ExceptionMapping> resolve(final Class<?> type) {
+        Class<?>         current;
+        ExceptionMapping mapping;
+
+        current = type;
+        mapping = null;
+        while ((current != null) && (mapping == null)) {
+            mapping = mappings.get(current);
+            current = current.getSuperclass();
+        }
+
+        return Optional.ofNullable(mapping);
+    }
+
+}
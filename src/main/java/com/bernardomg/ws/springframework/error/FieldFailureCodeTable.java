@@ -0,0 +1,105 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.error;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.validation.FieldError;
+
+/**
+ * Maps field errors through a table of codes, built once and never changed. A field error has several codes, from
+ * the most to the least specific, such as {@code NotNull.user.name}, {@code NotNull.name} and {@code NotNull}. The
+ * first one found in the table gives the failure code, so specific fields can take their own codes.
+ * <p>
+ * Errors without any code in the table take an empty code.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class FieldFailureCodeTable implements FieldFailureCodeMapper {
+
+    /**
+     * Default codes. Missing values are mapped to {@code empty}.
+     */
+    public static final Map<String, String> DEFAULT_CODES = Map.of("NotNull", "empty", "NotEmpty", "empty");
+
+    /**
+     * Code for errors not in the table.
+     */
+    private static final String             UNMAPPED_CODE = "";
+
+    /**
+     * Failure codes for each error code.
+     */
+    private final Map<String, String>       codes;
+
+    /**
+     * Default constructor. Uses the default codes.
+     */
+    public FieldFailureCodeTable() {
+        this(Map.of());
+    }
+
+    /**
+     * Constructs a table with the default codes and the received ones. The received codes replace the defaults.
+     *
+     * @param errorCodes
+     *            failure codes for each error code
+     */
+    public FieldFailureCodeTable(final Map<String, String> errorCodes) {
+        super();
+
+        final Map<String, String> merged;
+
+        merged = new HashMap<>(DEFAULT_CODES);
+        merged.putAll(errorCodes);
+        codes = Map.copyOf(merged);
+    }
+
+    @Override
+    public final String toCode(final FieldError error) {
+        final String[] errorCodes;
+        String         code;
+        int            index;
+
+        errorCodes = error.getCodes();
+        code = null;
+        if (errorCodes != null) {
+            index = 0;
+            while ((code == null) && (index < errorCodes.length)) {
+                code = codes.get(errorCodes[index]);
+                index++;
+            }
+        }
+
+        if (code == null) {
+            code = UNMAPPED_CODE;
+        }
+
+        return code;
+    }
+
+}
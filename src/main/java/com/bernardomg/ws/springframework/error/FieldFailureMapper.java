@@ -0,0 +1,144 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.error;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.validation.FieldError;
+
+import com.bernardomg.validation.domain.model.FieldFailure;
+
+/**
+ * Builds the failures for the failure responses. Shared by the servlet and reactive exception handlers.
+ * <p>
+ * The number of failures in a response is limited. A bulk request with thousands of invalid rows would otherwise be
+ * answered with an equally huge response. Only the first failures are kept, and the rest are dropped.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class FieldFailureMapper {
+
+    /**
+     * Default maximum number of failures in a response.
+     */
+    public static final int              DEFAULT_MAX_FAILURES = 100;
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger          log                  = LoggerFactory.getLogger(FieldFailureMapper.class);
+
+    /**
+     * Maps the field errors into failure codes.
+     */
+    private final FieldFailureCodeMapper codeMapper;
+
+    /**
+     * Maximum number of failures in a response. If it is not positive the failures are not limited.
+     */
+    private final int                    maxFailures;
+
+    /**
+     * Default constructor. Uses the default failure codes, and the default limit.
+     */
+    public FieldFailureMapper() {
+        this(new FieldFailureCodeTable(), DEFAULT_MAX_FAILURES);
+    }
+
+    /**
+     * Constructs a mapper with the received failure codes and limit.
+     *
+     * @param mapper
+     *            maps the field errors into failure codes
+     * @param max
+     *            maximum number of failures in a response, if it is not positive the failures are not limited
+     */
+    public FieldFailureMapper(final FieldFailureCodeMapper mapper, final int max) {
+        super();
+
+        codeMapper = mapper;
+        maxFailures = max;
+    }
+
+    /**
+     * Returns the failures for the field errors, grouped by field.
+     *
+     * @param errors
+     *            field errors to transform
+     * @return the failures for the field errors
+     */
+    public final Map<String, List<FieldFailure>> fromFieldErrors(final Collection<FieldError> errors) {
+        return limit(errors).map(this::toFieldFailure)
+            .collect(Collectors.groupingBy(FieldFailure::field));
+    }
+
+    /**
+     * Returns the failures grouped by field.
+     *
+     * @param failures
+     *            failures to group
+     * @return the failures grouped by field
+     */
+    public final Map<String, List<FieldFailure>> group(final Collection<FieldFailure> failures) {
+        return limit(failures).collect(Collectors.groupingBy(FieldFailure::field));
+    }
+
+    /**
+     * Transforms Spring's field error into our custom field error.
+     *
+     * @param error
+     *            error object to transform
+     * @return our custom error object
+     */
+    public final FieldFailure toFieldFailure(final FieldError error) {
+        log.debug("{}.{} with value {}: {}", error.getObjectName(), error.getField(), error.getRejectedValue(),
+            error.getDefaultMessage());
+
+        return new FieldFailure(codeMapper.toCode(error), error.getField(), error.getDefaultMessage(),
+            error.getRejectedValue());
+    }
+
+    private final <T> Stream<T> limit(final Collection<T> values) {
+        final Stream<T> limited;
+
+        if ((maxFailures > 0) && (values.size() > maxFailures)) {
+            log.debug("Received {} failures, keeping the first {}", values.size(), maxFailures);
+            limited = values.stream()
+                .limit(maxFailures);
+        } else {
+            limited = values.stream();
+        }
+
+        return limited;
+    }
+
+}
@@ -24,21 +24,20 @@
 
 package com.bernardomg.ws.springframework.error;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.TypeMismatchException;
-import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -51,141 +50,286 @@
 import com.bernardomg.validation.domain.model.FieldFailure;
 import com.bernardomg.ws.response.domain.model.ErrorResponse;
 import com.bernardomg.ws.response.domain.model.FailureResponse;
-
-import jakarta.validation.ValidationException;
+import com.bernardomg.ws.springframework.request.CollectionValidationException;
 
 /**
  * Captures and handles general use exceptions. This includes validation exceptions.
+ * <p>
+ * Runtime exceptions, and the Spring exceptions handled by the parent class, are turned into responses through the
+ * {@link ExceptionMappings}. Unmapped runtime exceptions are internal errors.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  */
 @RestControllerAdvice
-public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler implements ExceptionLogCounters {
 
     /**
      * Logger for the class.
      */
-    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final Logger             log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    /**
+     * Serialized mapped error responses.
+     */
+    private final ErrorBodies               errorBodies;
+
+    /**
+     * Builds the failures for the failure responses.
+     */
+    private final FieldFailureMapper        failureMapper;
+
+    /**
+     * Receives the handled exceptions.
+     */
+    private final ExceptionHandlingListener listener;
 
     /**
-     * Default constructor.
+     * Decides how the exceptions are logged.
+     */
+    private final ExceptionLoggingPolicy    loggingPolicy;
+
+    /**
+     * Decides the response for each exception.
+     */
+    private final ExceptionMappings         mappings;
+
+    /**
+     * Default constructor. Uses the default logging policy, and serializes the constant errors to JSON.
      */
     public GlobalExceptionHandler() {
+        this(new ExceptionLoggingPolicy());
+    }
+
+    /**
+     * Constructs a handler with the specified logging policy. The constant errors are serialized to JSON.
+     *
+     * @param policy
+     *            decides how the exceptions are logged
+     */
+    public GlobalExceptionHandler(final ExceptionLoggingPolicy policy) {
+        this(policy, List.of(new MappingJackson2HttpMessageConverter()));
+    }
+
+    /**
+     * Constructs a handler with the specified logging policy. The constant errors are serialized with the message
+     * converters, for all their media types.
+     *
+     * @param policy
+     *            decides how the exceptions are logged
+     * @param converters
+     *            message converters to serialize the constant errors
+     */
+    public GlobalExceptionHandler(final ExceptionLoggingPolicy policy,
+            final Collection<HttpMessageConverter<?>> converters) {
+        this(policy, converters, ExceptionHandlingListener.NO_OP);
+    }
+
+    /**
+     * Constructs a handler with the specified logging policy, which notifies the handled exceptions. The constant
+     * errors are serialized with the message converters, for all their media types.
+     *
+     * @param policy
+     *            decides how the exceptions are logged
+     * @param converters
+     *            message converters to serialize the constant errors
+     * @param handlingListener
+     *            receives the handled exceptions
+     */
+    public GlobalExceptionHandler(final ExceptionLoggingPolicy policy,
+            final Collection<HttpMessageConverter<?>> converters, final ExceptionHandlingListener handlingListener) {
+        this(policy, converters, handlingListener, new ExceptionMappings());
+    }
+
+    /**
+     * Constructs a handler with the specified logging policy and exception mappings, which notifies the handled
+     * exceptions. The mapped errors are serialized with the message converters, for all their media types.
+     *
+     * @param policy
+     *            decides how the exceptions are logged
+     * @param converters
+     *            message converters to serialize the mapped errors
+     * @param handlingListener
+     *            receives the handled exceptions
+     * @param exceptionMappings
+     *            decides the response for each exception
+     */
+    public GlobalExceptionHandler(final ExceptionLoggingPolicy policy,
+            final Collection<HttpMessageConverter<?>> converters, final ExceptionHandlingListener handlingListener,
+            final ExceptionMappings exceptionMappings) {
+        this(policy, converters, handlingListener, exceptionMappings, new FieldFailureMapper());
+    }
+
+    /**
+     * Constructs a handler with the specified logging policy, exception mappings and failure mapper, which notifies
+     * the handled exceptions. The mapped errors are serialized with the message converters, for all their media types.
+     *
+     * @param policy
+     *            decides how the exceptions are logged
+     * @param converters
+     *            message converters to serialize the mapped errors
+     * @param handlingListener
+     *            receives the handled exceptions
+     * @param exceptionMappings
+     *            decides the response for each exception
+     * @param fieldFailureMapper
+     *            builds the failures for the failure responses
+     */
+    public GlobalExceptionHandler(final ExceptionLoggingPolicy policy,
+            final Collection<HttpMessageConverter<?>> converters, final ExceptionHandlingListener handlingListener,
+            final ExceptionMappings exceptionMappings, final FieldFailureMapper fieldFailureMapper) {
         super();
+
+        loggingPolicy = policy;
+        listener = handlingListener;
+        mappings = exceptionMappings;
+        failureMapper = fieldFailureMapper;
+        errorBodies = new ErrorBodies(converters, Stream.concat(mappings.getMappings()
+            .stream(), Stream.of(ExceptionMapping.INTERNAL_ERROR))
+            .map(ExceptionMapping::toResponse)
+            .distinct()
+            .toList());
+    }
+
+    @Override
+    public final long getSuppressedLogs() {
+        return loggingPolicy.getSuppressed();
     }
 
-    @ExceptionHandler({ IllegalArgumentException.class, HttpMessageConversionException.class, DataAccessException.class,
-            ValidationException.class })
+    /**
+     * Handles the failures from validating the elements of a collection request body.
+     *
+     * @param ex
+     *            exception to handle
+     * @return failure response for the invalid elements
+     */
+    @ExceptionHandler({ CollectionValidationException.class })
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public final ErrorResponse handleBadRequestException(final Exception ex) {
-        // TODO: doesn't seem to be capturing the exceptions correctly
-        log.warn(ex.getMessage(), ex);
+    public final FailureResponse handleCollectionValidationException(final CollectionValidationException ex) {
+        final long                            start;
+        final Map<String, List<FieldFailure>> failures;
+        final FailureResponse                 response;
 
-        return new ErrorResponse(String.valueOf(HttpStatus.BAD_REQUEST.value()), "Bad request");
+        start = System.nanoTime();
+
+        loggingPolicy.log(log, HttpStatus.BAD_REQUEST, ex);
+
+        failures = failureMapper.fromFieldErrors(ex.getFieldErrors());
+
+        response = new FailureResponse(String.valueOf(HttpStatus.BAD_REQUEST.value()), "Field validation failure",
+            failures);
+
+        listener.onHandled(ex.getClass(), HttpStatus.BAD_REQUEST, System.nanoTime() - start);
+
+        return response;
     }
 
     /**
-     * Handles unmapped exceptions.
+     * Handles runtime exceptions, through the exception mappings. Unmapped exceptions are internal errors.
      *
      * @param ex
      *            exception to handle
-     * @return internal error response
+     * @param request
+     *            request which caused the exception
+     * @return error response for the exception
      */
     @ExceptionHandler({ RuntimeException.class })
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public final ErrorResponse handleExceptionDefault(final Exception ex) {
-        log.warn(ex.getMessage(), ex);
+    public final ResponseEntity<Object> handleMappedException(final RuntimeException ex, final WebRequest request) {
+        final long             start;
+        final ExceptionMapping mapping;
+
+        start = System.nanoTime();
 
-        return new ErrorResponse(String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR.value()), "Internal error");
+        mapping = mappings.find(ex.getClass())
+            .orElse(ExceptionMapping.INTERNAL_ERROR);
+
+        return toResponseEntity(start, ex, mapping, request);
     }
 
     @ExceptionHandler({ FieldFailureException.class })
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public final FailureResponse handleValidationException(final FieldFailureException ex) {
+        final long                            start;
         final Map<String, List<FieldFailure>> failures;
+        final FailureResponse                 response;
 
-        log.warn(ex.getMessage(), ex);
-
-        failures = ex.getFailures()
-            .stream()
-            .collect(Collectors.groupingBy(FieldFailure::field));
+        start = System.nanoTime();
 
-        return new FailureResponse(String.valueOf(HttpStatus.BAD_REQUEST.value()), "Field validation failure",
-            failures);
-    }
+        loggingPolicy.log(log, HttpStatus.BAD_REQUEST, ex);
 
-    /**
-     * Transforms Spring's field error into our custom field error.
-     *
-     * @param error
-     *            error object to transform
-     * @return our custom error object
-     */
-    private final FieldFailure toFieldFailure(final org.springframework.validation.FieldError error) {
-        final Collection<String> codes;
-        final String             code;
+        failures = failureMapper.group(ex.getFailures());
 
-        log.error("{}.{} with value {}: {}", error.getObjectName(), error.getField(), error.getRejectedValue(),
-            error.getDefaultMessage());
+        response = new FailureResponse(String.valueOf(HttpStatus.BAD_REQUEST.value()), "Field validation failure",
+            failures);
 
-        // TODO: add an error mapper
-        if (error.getCodes() == null) {
-            codes = List.of();
-        } else {
-            codes = Arrays.asList(error.getCodes());
-        }
-        if (codes.contains("NotNull") || codes.contains("NotEmpty")) {
-            code = "empty";
-        } else {
-            code = "";
-        }
+        listener.onHandled(ex.getClass(), HttpStatus.BAD_REQUEST, System.nanoTime() - start);
 
-        return new FieldFailure(code, error.getField(), error.getDefaultMessage(), error.getRejectedValue());
+        return response;
     }
 
     @Override
     protected final ResponseEntity<Object> handleExceptionInternal(final Exception ex, @Nullable final Object body,
             final HttpHeaders headers, final HttpStatusCode statusCode, final WebRequest request) {
-        final ErrorResponse response;
-        final String        message;
+        final long                       start;
+        final Optional<ExceptionMapping> mapping;
+        final ErrorResponse              response;
+        final String                     message;
+        final ResponseEntity<Object>     entity;
+
+        start = System.nanoTime();
+
+        // Spring exceptions are handled here, so they are mapped too
+        mapping = mappings.find(ex.getClass());
+        if (mapping.isPresent()) {
+            entity = toResponseEntity(start, ex, mapping.get(), request);
+        } else {
+            loggingPolicy.log(log, statusCode, ex);
 
-        log.error(ex.getMessage(), ex);
+            message = "Server error. Contact admin.";
 
-        message = "Server error. Contact admin.";
+            response = new ErrorResponse(String.valueOf(statusCode.value()), message);
 
-        response = new ErrorResponse(String.valueOf(statusCode.value()), message);
+            entity = super.handleExceptionInternal(ex, response, headers, statusCode, request);
+
+            listener.onHandled(ex.getClass(), statusCode, System.nanoTime() - start);
+        }
 
-        return super.handleExceptionInternal(ex, response, headers, statusCode, request);
+        return entity;
     }
 
     @Override
     protected final ResponseEntity<Object> handleMethodArgumentNotValid(final MethodArgumentNotValidException ex,
             final HttpHeaders headers, final HttpStatusCode status, final WebRequest request) {
+        final long                            start;
         final Map<String, List<FieldFailure>> failures;
         final FailureResponse                 response;
+        final ResponseEntity<Object>          entity;
 
-        failures = ex.getBindingResult()
-            .getFieldErrors()
-            .stream()
-            .map(this::toFieldFailure)
-            .collect(Collectors.groupingBy(FieldFailure::field));
+        start = System.nanoTime();
+
+        failures = failureMapper.fromFieldErrors(ex.getBindingResult()
+            .getFieldErrors());
 
         response = new FailureResponse(String.valueOf(HttpStatus.BAD_REQUEST.value()), "Field validation failure",
             failures);
 
-        return super.handleExceptionInternal(ex, response, headers, status, request);
+        entity = super.handleExceptionInternal(ex, response, headers, status, request);
+
+        listener.onHandled(ex.getClass(), HttpStatus.BAD_REQUEST, System.nanoTime() - start);
+
+        return entity;
     }
 
-    @Override
-    protected final ResponseEntity<Object> handleTypeMismatch(final TypeMismatchException ex, final HttpHeaders headers,
-            final HttpStatusCode status, final WebRequest request) {
-        final ErrorResponse response;
+    private final ResponseEntity<Object> toResponseEntity(final long start, final Exception ex,
+            final ExceptionMapping mapping, final WebRequest request) {
+        final ResponseEntity<Object> response;
+
+        loggingPolicy.log(log, mapping.status(), mapping.logLevel(), ex);
 
-        log.warn(ex.getMessage(), ex);
+        response = errorBodies.toResponseEntity(mapping.status(), mapping.toResponse(), request);
 
-        response = new ErrorResponse(String.valueOf(HttpStatus.BAD_REQUEST.value()), "Bad request");
+        listener.onHandled(ex.getClass(), mapping.status(), System.nanoTime() - start);
 
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        return response;
     }
 
 }
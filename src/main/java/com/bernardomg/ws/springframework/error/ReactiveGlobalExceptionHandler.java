@@ -0,0 +1,280 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.error;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.WebExceptionHandler;
+
+import com.bernardomg.validation.domain.exception.FieldFailureException;
+import com.bernardomg.validation.domain.model.FieldFailure;
+import com.bernardomg.ws.response.domain.model.ErrorResponse;
+import com.bernardomg.ws.response.domain.model.FailureResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Captures and handles general use exceptions on reactive applications. The exceptions are mapped to the same
+ * responses as in {@link GlobalExceptionHandler}, which are written with the message writers, so the response media
+ * type is negotiated with the request.
+ * <p>
+ * It goes before the default Spring Boot error handler. Exceptions which aren't runtime exceptions are left to the
+ * next handlers.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ReactiveGlobalExceptionHandler implements WebExceptionHandler, Ordered, ExceptionLogCounters {
+
+    /**
+     * Handler order. Goes before the Spring Boot error handler, which has order -1.
+     */
+    public static final int                  ORDER                   = -2;
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger              log                     = LoggerFactory
+        .getLogger(ReactiveGlobalExceptionHandler.class);
+
+    /**
+     * Builds the failures for the failure responses.
+     */
+    private final FieldFailureMapper         failureMapper;
+
+    /**
+     * Receives the handled exceptions.
+     */
+    private final ExceptionHandlingListener  listener;
+
+    /**
+     * Decides how the exceptions are logged.
+     */
+    private final ExceptionLoggingPolicy     loggingPolicy;
+
+    /**
+     * Decides the response for each exception.
+     */
+    private final ExceptionMappings          mappings;
+
+    /**
+     * Context for writing the responses.
+     */
+    private final ServerResponse.Context     responseContext;
+
+    /**
+     * Message writers for the responses.
+     */
+    private final List<HttpMessageWriter<?>> writers;
+
+    /**
+     * Default constructor. Uses the default logging policy and message writers.
+     */
+    public ReactiveGlobalExceptionHandler() {
+        this(new ExceptionLoggingPolicy(), ServerCodecConfigurer.create()
+            .getWriters());
+    }
+
+    /**
+     * Constructs a handler with the specified logging policy, which writes the responses with the received message
+     * writers.
+     *
+     * @param policy
+     *            decides how the exceptions are logged
+     * @param messageWriters
+     *            message writers for the responses
+     */
+    public ReactiveGlobalExceptionHandler(final ExceptionLoggingPolicy policy,
+            final List<HttpMessageWriter<?>> messageWriters) {
+        this(policy, messageWriters, ExceptionHandlingListener.NO_OP);
+    }
+
+    /**
+     * Constructs a handler with the specified logging policy, which writes the responses with the received message
+     * writers and notifies the handled exceptions.
+     *
+     * @param policy
+     *            decides how the exceptions are logged
+     * @param messageWriters
+     *            message writers for the responses
+     * @param handlingListener
+     *            receives the handled exceptions
+     */
+    public ReactiveGlobalExceptionHandler(final ExceptionLoggingPolicy policy,
+            final List<HttpMessageWriter<?>> messageWriters, final ExceptionHandlingListener handlingListener) {
+        this(policy, messageWriters, handlingListener, new ExceptionMappings());
+    }
+
+    /**
+     * Constructs a handler with the specified logging policy and exception mappings, which writes the responses with
+     * the received message writers and notifies the handled exceptions.
+     *
+     * @param policy
+     *            decides how the exceptions are logged
+     * @param messageWriters
+     *            message writers for the responses
+     * @param handlingListener
+     *            receives the handled exceptions
+     * @param exceptionMappings
+     *            decides the response for each exception
+     */
+    public ReactiveGlobalExceptionHandler(final ExceptionLoggingPolicy policy,
+            final List<HttpMessageWriter<?>> messageWriters, final ExceptionHandlingListener handlingListener,
+            final ExceptionMappings exceptionMappings) {
+        this(policy, messageWriters, handlingListener, exceptionMappings, new FieldFailureMapper());
+    }
+
+    /**
+     * Constructs a handler with the specified logging policy, exception mappings and failure mapper, which writes the
+     * responses with the received message writers and notifies the handled exceptions.
+     *
+     * @param policy
+     *            decides how the exceptions are logged
+     * @param messageWriters
+     *            message writers for the responses
+     * @param handlingListener
+     *            receives the handled exceptions
+     * @param exceptionMappings
+     *            decides the response for each exception
+     * @param fieldFailureMapper
+     *            builds the failures for the failure responses
+     */
+    public ReactiveGlobalExceptionHandler(final ExceptionLoggingPolicy policy,
+            final List<HttpMessageWriter<?>> messageWriters, final ExceptionHandlingListener handlingListener,
+            final ExceptionMappings exceptionMappings, final FieldFailureMapper fieldFailureMapper) {
+        super();
+
+        loggingPolicy = policy;
+        mappings = exceptionMappings;
+        failureMapper = fieldFailureMapper;
+        writers = List.copyOf(messageWriters);
+        listener = handlingListener;
+        responseContext = new ResponseContext();
+    }
+
+    @Override
+    public final int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public final long getSuppressedLogs() {
+        return loggingPolicy.getSuppressed();
+    }
+
+    @Override
+    public final Mono<Void> handle(final ServerWebExchange exchange, final Throwable ex) {
+        final long                       start;
+        final Optional<ExceptionMapping> mapping;
+        final HttpStatusCode             status;
+        final Object                     body;
+        final Level                      level;
+
+        if (exchange.getResponse()
+            .isCommitted() || !(ex instanceof RuntimeException)) {
+            // Can't be handled
+            return Mono.error(ex);
+        }
+
+        start = System.nanoTime();
+
+        mapping = mappings.find(ex.getClass());
+        if (ex instanceof final FieldFailureException failureException) {
+            status = HttpStatus.BAD_REQUEST;
+            body = toFailureResponse(failureMapper.group(failureException.getFailures()));
+            level = Level.WARN;
+        } else if (ex instanceof final WebExchangeBindException bindException) {
+            status = HttpStatus.BAD_REQUEST;
+            body = toFailureResponse(failureMapper.fromFieldErrors(bindException.getBindingResult()
+                .getFieldErrors()));
+            level = Level.WARN;
+        } else if (mapping.isPresent()) {
+            status = mapping.get()
+                .status();
+            body = mapping.get()
+                .toResponse();
+            level = mapping.get()
+                .logLevel();
+        } else if (ex instanceof ServerWebInputException) {
+            status = HttpStatus.BAD_REQUEST;
+            body = ExceptionMapping.BAD_REQUEST.toResponse();
+            level = Level.WARN;
+        } else if (ex instanceof final org.springframework.web.ErrorResponse errorResponse) {
+            // Spring exceptions with their own status, such as missing resources
+            status = errorResponse.getStatusCode();
+            body = new ErrorResponse(String.valueOf(status.value()), "Server error. Contact admin.");
+            level = status.is5xxServerError() ? Level.ERROR : Level.WARN;
+        } else {
+            status = ExceptionMapping.INTERNAL_ERROR.status();
+            body = ExceptionMapping.INTERNAL_ERROR.toResponse();
+            level = ExceptionMapping.INTERNAL_ERROR.logLevel();
+        }
+
+        loggingPolicy.log(log, status, level, (Exception) ex);
+
+        listener.onHandled(ex.getClass(), status, System.nanoTime() - start);
+
+        return ServerResponse.status(status)
+            .bodyValue(body)
+            .flatMap(response -> response.writeTo(exchange, responseContext));
+    }
+
+    private final FailureResponse toFailureResponse(final Map<String, List<FieldFailure>> failures) {
+        return new FailureResponse(String.valueOf(HttpStatus.BAD_REQUEST.value()), "Field validation failure",
+            failures);
+    }
+
+    /**
+     * Context for writing the responses. Only the message writers are used, as there are no views.
+     */
+    private final class ResponseContext implements ServerResponse.Context {
+
+        @Override
+        public final List<HttpMessageWriter<?>> messageWriters() {
+            return writers;
+        }
+
+        @Override
+        public final List<ViewResolver> viewResolvers() {
+            return List.of();
+        }
+
+    }
+
+}
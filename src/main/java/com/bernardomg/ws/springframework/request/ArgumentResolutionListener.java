@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import com.bernardomg.pagination.domain.Sorting.Direction;
+
+/**
+ * Receives the results of the argument resolvers, to gather metrics about the requests. All the methods do nothing by
+ * default.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface ArgumentResolutionListener {
+
+    /**
+     * Listener which ignores everything.
+     */
+    public static final ArgumentResolutionListener NO_OP = new ArgumentResolutionListener() {};
+
+    /**
+     * Receives the page size for a resolved pagination.
+     *
+     * @param type
+     *            resolved argument type
+     * @param requested
+     *            size requested, or the default size if the request had none
+     * @param effective
+     *            size used, after applying the limits
+     */
+    public default void onPageSize(final Class<?> type, final int requested, final int effective) {}
+
+    /**
+     * Receives the time taken to resolve an argument.
+     *
+     * @param type
+     *            resolved argument type
+     * @param nanos
+     *            resolution time, in nanoseconds
+     */
+    public default void onResolved(final Class<?> type, final long nanos) {}
+
+    /**
+     * Receives a property used for sorting.
+     *
+     * @param property
+     *            property name
+     * @param direction
+     *            sorting direction
+     */
+    public default void onSortProperty(final String property, final Direction direction) {}
+
+}
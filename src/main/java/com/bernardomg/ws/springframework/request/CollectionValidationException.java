@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.List;
+
+import org.springframework.validation.FieldError;
+
+/**
+ * Thrown when the elements of a collection request body are not valid. Contains the failures for all the invalid
+ * elements, with the field indexed by element.
+ * <p>
+ * The validation happens while reading the body, which can't throw Spring's checked validation exceptions, so this one
+ * is handled apart by the exception handlers.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @see ParallelValidation
+ */
+public final class CollectionValidationException extends RuntimeException {
+
+    private static final long      serialVersionUID = 1L;
+
+    /**
+     * Failures for the invalid elements.
+     */
+    private final List<FieldError> fieldErrors;
+
+    /**
+     * Constructs an exception with the failures for the invalid elements.
+     *
+     * @param errors
+     *            failures for the invalid elements
+     */
+    public CollectionValidationException(final List<FieldError> errors) {
+        super("Invalid collection elements");
+
+        fieldErrors = List.copyOf(errors);
+    }
+
+    /**
+     * Returns the failures for the invalid elements, sorted by element.
+     *
+     * @return the failures for the invalid elements
+     */
+    public final List<FieldError> getFieldErrors() {
+        return fieldErrors;
+    }
+
+}
@@ -0,0 +1,195 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.bernardomg.ws.request.domain.model.CursorPagination;
+
+/**
+ * Argument resolver to acquire a {@link CursorPagination} from the request parameters. The cursor is read from the
+ * {@code cursor} parameter, or from {@code after} if it is missing. In case the size is missing, it applies the
+ * default value.
+ * <p>
+ * The page size is limited in the same way as in {@link PaginationArgumentResolver}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class CursorPaginationArgumentResolver implements HandlerMethodArgumentResolver, PageSizeCounters {
+
+    private static final int                 DEFAULT_MAX_SIZE = 100;
+
+    private static final int                 DEFAULT_SIZE     = 10;
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger              log              = LoggerFactory
+        .getLogger(CursorPaginationArgumentResolver.class);
+
+    /**
+     * Receives the resolved arguments.
+     */
+    private final ArgumentResolutionListener listener;
+
+    /**
+     * Maximum page size.
+     */
+    private final PageSizeLimit              sizeLimit;
+
+    /**
+     * Parses the size.
+     */
+    private final IntParameterParser         sizeParser;
+
+    /**
+     * Default constructor. Oversized pages are clamped to the default maximum size.
+     */
+    public CursorPaginationArgumentResolver() {
+        this(DEFAULT_MAX_SIZE, PageSizePolicy.CLAMP);
+    }
+
+    /**
+     * Constructs a resolver with the received page size limit.
+     *
+     * @param maxSize
+     *            maximum page size, if it is not positive there is no limit
+     * @param policy
+     *            what to do with oversized pages
+     */
+    public CursorPaginationArgumentResolver(final int maxSize, final PageSizePolicy policy) {
+        this(maxSize, policy, ArgumentResolutionListener.NO_OP);
+    }
+
+    /**
+     * Constructs a resolver with the received page size limit, which notifies the resolved arguments.
+     *
+     * @param maxSize
+     *            maximum page size, if it is not positive there is no limit
+     * @param policy
+     *            what to do with oversized pages
+     * @param resolutionListener
+     *            receives the resolved arguments
+     */
+    public CursorPaginationArgumentResolver(final int maxSize, final PageSizePolicy policy,
+            final ArgumentResolutionListener resolutionListener) {
+        this(maxSize, policy, MalformedParameterPolicy.REJECT, resolutionListener);
+    }
+
+    /**
+     * Constructs a resolver with the received page size limit and policy for malformed params, which notifies the
+     * resolved arguments.
+     *
+     * @param maxSize
+     *            maximum page size, if it is not positive there is no limit
+     * @param policy
+     *            what to do with oversized pages
+     * @param malformedPolicy
+     *            what to do with malformed page and size params
+     * @param resolutionListener
+     *            receives the resolved arguments
+     */
+    public CursorPaginationArgumentResolver(final int maxSize, final PageSizePolicy policy,
+            final MalformedParameterPolicy malformedPolicy, final ArgumentResolutionListener resolutionListener) {
+        super();
+
+        sizeLimit = new PageSizeLimit(maxSize, policy);
+        sizeParser = new IntParameterParser(malformedPolicy);
+        listener = resolutionListener;
+    }
+
+    @Override
+    public final long getClampedSizes() {
+        return sizeLimit.getClamped();
+    }
+
+    @Override
+    public final long getRejectedSizes() {
+        return sizeLimit.getRejected();
+    }
+
+    @Override
+    public final Object resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
+            final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) {
+        final long   start;
+        final String cursorParam;
+        final String cursor;
+        final String sizeParam;
+        final int    parsedSize;
+        final int    requestedSize;
+        final int    size;
+
+        start = System.nanoTime();
+
+        // Parse cursor
+        if (webRequest.getParameter("cursor") == null) {
+            cursorParam = webRequest.getParameter("after");
+        } else {
+            cursorParam = webRequest.getParameter("cursor");
+        }
+        if ((cursorParam == null) || cursorParam.isBlank()) {
+            cursor = null;
+            log.debug("Received no cursor, reading first page");
+        } else {
+            cursor = cursorParam;
+        }
+
+        // Parse size
+        sizeParam = webRequest.getParameter("size");
+        if (sizeParam == null) {
+            size = DEFAULT_SIZE;
+            requestedSize = size;
+            log.debug("Received no size, changed to {}", size);
+        } else {
+            parsedSize = sizeParser.parse("size", sizeParam, DEFAULT_SIZE);
+            requestedSize = parsedSize;
+            if (parsedSize > 0) {
+                size = sizeLimit.apply(parameter, parsedSize);
+            } else {
+                size = DEFAULT_SIZE;
+                log.warn("Received size {}, changed to {}", parsedSize, size);
+            }
+        }
+
+        listener.onPageSize(CursorPagination.class, requestedSize, size);
+        listener.onResolved(CursorPagination.class, System.nanoTime() - start);
+
+        return new CursorPagination(cursor, size);
+    }
+
+    @Override
+    public final boolean supportsParameter(final MethodParameter parameter) {
+        return parameter.getParameterType()
+            .equals(CursorPagination.class);
+    }
+
+}
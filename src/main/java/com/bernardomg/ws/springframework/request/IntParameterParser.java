@@ -0,0 +1,141 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.OptionalInt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses int parameters without throwing exceptions. Malformed values are replaced by the default value, or rejected,
+ * depending on the {@link MalformedParameterPolicy}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class IntParameterParser {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger            log        = LoggerFactory.getLogger(IntParameterParser.class);
+
+    /**
+     * Maximum length of an int, including the sign. Longer values can't be ints.
+     */
+    private static final int               MAX_LENGTH = 11;
+
+    /**
+     * Policy for malformed values.
+     */
+    private final MalformedParameterPolicy policy;
+
+    public IntParameterParser(final MalformedParameterPolicy malformedPolicy) {
+        super();
+
+        policy = malformedPolicy;
+    }
+
+    /**
+     * Parses the value as a decimal int. Returns an empty optional if it is malformed, or out of the int range.
+     *
+     * @param value
+     *            value to parse
+     * @return the parsed int, or an empty optional if it is malformed
+     */
+    public static final OptionalInt parse(final String value) {
+        final int         length;
+        final boolean     negative;
+        final OptionalInt parsed;
+        int               index;
+        long              number;
+        boolean           valid;
+        char              digit;
+
+        length = value.length();
+        negative = (length > 0) && (value.charAt(0) == '-');
+        if (negative || ((length > 0) && (value.charAt(0) == '+'))) {
+            index = 1;
+        } else {
+            index = 0;
+        }
+
+        // The length check also keeps the long from overflowing
+        valid = (index < length) && (length <= MAX_LENGTH);
+        number = 0;
+        while (valid && (index < length)) {
+            digit = value.charAt(index);
+            valid = (digit >= '0') && (digit <= '9');
+            number = (number * 10) + (digit - '0');
+            index++;
+        }
+        if (negative) {
+            number = -number;
+        }
+
+        if (valid && (number >= Integer.MIN_VALUE) && (number <= Integer.MAX_VALUE)) {
+            parsed = OptionalInt.of((int) number);
+        } else {
+            parsed = OptionalInt.empty();
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Returns the parameter value as an int. If it is malformed, the policy decides if the default value is used, or
+     * the request is rejected.
+     *
+     * @param name
+     *            parameter name
+     * @param value
+     *            parameter value
+     * @param defaultValue
+     *            value to use if the received one is malformed
+     * @return the parameter value as an int
+     * @throws MalformedParameterException
+     *             if the value is malformed and the policy rejects it
+     */
+    public final int parse(final String name, final String value, final int defaultValue) {
+        final OptionalInt parsed;
+        final int         number;
+
+        parsed = parse(value);
+        if (parsed.isPresent()) {
+            number = parsed.getAsInt();
+        } else if (policy == MalformedParameterPolicy.REJECT) {
+            // The value is not logged, as it may be anything
+            log.debug("Rejected malformed {}", name);
+            throw MalformedParameterException.INSTANCE;
+        } else {
+            number = defaultValue;
+            log.debug("Received malformed {}, changed to {}", name, number);
+        }
+
+        return number;
+    }
+
+}
@@ -0,0 +1,50 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+/**
+ * Thrown when a request is rejected because of a malformed parameter. This is expected to be caused by junk requests,
+ * so a single instance is shared. As it is shared between requests, it has no stack trace, and suppressed exceptions
+ * can't be added to it.
+ * <p>
+ * The exception handlers map it to the bad request response without logging it.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class MalformedParameterException extends RuntimeException {
+
+    /**
+     * Shared instance.
+     */
+    public static final MalformedParameterException INSTANCE         = new MalformedParameterException();
+
+    private static final long                       serialVersionUID = 1L;
+
+    private MalformedParameterException() {
+        super("Malformed request parameter", null, false, false);
+    }
+
+}
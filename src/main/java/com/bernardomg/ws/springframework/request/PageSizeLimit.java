@@ -0,0 +1,136 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+
+/**
+ * Applies the maximum page size. The limit is taken from the {@link MaxPageSize} annotation on the parameter, if it
+ * exists, otherwise the global limit is used.
+ * <p>
+ * Keeps count of the clamped and rejected sizes.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class PageSizeLimit {
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger  log      = LoggerFactory.getLogger(PageSizeLimit.class);
+
+    /**
+     * Number of clamped sizes.
+     */
+    private final LongAdder      clamped  = new LongAdder();
+
+    /**
+     * Global maximum size. If it is not positive then there is no global limit.
+     */
+    private final int            maxSize;
+
+    /**
+     * Policy for oversized pages.
+     */
+    private final PageSizePolicy policy;
+
+    /**
+     * Number of rejected sizes.
+     */
+    private final LongAdder      rejected = new LongAdder();
+
+    public PageSizeLimit(final int max, final PageSizePolicy sizePolicy) {
+        super();
+
+        maxSize = max;
+        policy = sizePolicy;
+    }
+
+    /**
+     * Returns the size to use, after applying the limit.
+     *
+     * @param parameter
+     *            parameter being resolved
+     * @param size
+     *            requested size
+     * @return the size to use
+     * @throws IllegalArgumentException
+     *             if the size is over the limit and the policy rejects it
+     */
+    public final int apply(final MethodParameter parameter, final int size) {
+        final int effectiveSize;
+        final int limit;
+
+        limit = getLimit(parameter);
+        if ((limit <= 0) || (size <= limit)) {
+            effectiveSize = size;
+        } else if (policy == PageSizePolicy.REJECT) {
+            rejected.increment();
+            log.debug("Rejected size {}, as it is over the maximum of {}", size, limit);
+            throw new IllegalArgumentException(String.format("Page size %d over the maximum of %d", size, limit));
+        } else {
+            clamped.increment();
+            effectiveSize = limit;
+            log.debug("Received size {}, changed to maximum {}", size, limit);
+        }
+
+        return effectiveSize;
+    }
+
+    public final long getClamped() {
+        return clamped.sum();
+    }
+
+    /**
+     * Returns the limit for the parameter.
+     *
+     * @param parameter
+     *            parameter to check
+     * @return the limit for the parameter
+     */
+    public final int getLimit(final MethodParameter parameter) {
+        final MaxPageSize annotation;
+        final int         limit;
+
+        annotation = parameter.getParameterAnnotation(MaxPageSize.class);
+        if (annotation == null) {
+            limit = maxSize;
+        } else {
+            limit = annotation.value();
+        }
+
+        return limit;
+    }
+
+    public final long getRejected() {
+        return rejected.sum();
+    }
+
+}
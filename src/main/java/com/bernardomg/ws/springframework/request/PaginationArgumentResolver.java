@@ -24,8 +24,6 @@
 
 package com.bernardomg.ws.springframework.request;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -37,75 +35,103 @@
 /**
  * Argument resolver to acquire a {@link Pagination} from the request parameters. In case these parameters are missing,
  * it applies default values.
+ * <p>
+ * The page size is limited by a maximum, which can be changed for a single endpoint with {@link MaxPageSize}. Bigger
+ * sizes are clamped or rejected, depending on the {@link PageSizePolicy}. Malformed page and size values are replaced
+ * by the defaults or rejected, depending on the {@link MalformedParameterPolicy}.
+ * <p>
+ * Parameters declared as {@code Optional<Pagination>} support the unpaged mode. When the {@code paged} parameter is
+ * {@code false} they receive an empty optional, and the controller is expected to return all the data, usually through
+ * a {@link com.bernardomg.ws.response.domain.model.StreamResponse StreamResponse}. Plain {@code Pagination} parameters
+ * are always paged.
+ * <p>
+ * Parameters declared as {@link com.bernardomg.ws.request.domain.model.PaginationRequest PaginationRequest} also
+ * support the slice mode. When the {@code count} parameter is {@code false} the totals shouldn't be counted, and the
+ * controller is expected to return a {@link com.bernardomg.ws.response.domain.model.Slice Slice}.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
-public final class PaginationArgumentResolver implements HandlerMethodArgumentResolver {
+public final class PaginationArgumentResolver implements HandlerMethodArgumentResolver, PageSizeCounters {
 
-    private static final int    DEFAULT_PAGE = 1;
+    /**
+     * Reads the pagination from the request parameters.
+     */
+    private final PaginationReader reader;
 
-    private static final int    DEFAULT_SIZE = 10;
+    /**
+     * Default constructor. Oversized pages are clamped to the default maximum size.
+     */
+    public PaginationArgumentResolver() {
+        this(PaginationReader.DEFAULT_MAX_SIZE, PageSizePolicy.CLAMP);
+    }
 
     /**
-     * Logger for the class.
+     * Constructs a resolver with the received page size limit.
+     *
+     * @param maxSize
+     *            maximum page size, if it is not positive there is no limit
+     * @param policy
+     *            what to do with oversized pages
      */
-    private static final Logger log          = LoggerFactory.getLogger(PaginationArgumentResolver.class);
+    public PaginationArgumentResolver(final int maxSize, final PageSizePolicy policy) {
+        this(maxSize, policy, ArgumentResolutionListener.NO_OP);
+    }
 
     /**
-     * Default constructor.
+     * Constructs a resolver with the received page size limit, which notifies the resolved arguments.
+     *
+     * @param maxSize
+     *            maximum page size, if it is not positive there is no limit
+     * @param policy
+     *            what to do with oversized pages
+     * @param resolutionListener
+     *            receives the resolved arguments
      */
-    public PaginationArgumentResolver() {
+    public PaginationArgumentResolver(final int maxSize, final PageSizePolicy policy,
+            final ArgumentResolutionListener resolutionListener) {
+        this(maxSize, policy, MalformedParameterPolicy.REJECT, resolutionListener);
+    }
+
+    /**
+     * Constructs a resolver with the received page size limit and policy for malformed params, which notifies the
+     * resolved arguments.
+     *
+     * @param maxSize
+     *            maximum page size, if it is not positive there is no limit
+     * @param policy
+     *            what to do with oversized pages
+     * @param malformedPolicy
+     *            what to do with malformed page and size params
+     * @param resolutionListener
+     *            receives the resolved arguments
+     */
+    public PaginationArgumentResolver(final int maxSize, final PageSizePolicy policy,
+            final MalformedParameterPolicy malformedPolicy, final ArgumentResolutionListener resolutionListener) {
         super();
+
+        reader = new PaginationReader(maxSize, policy, malformedPolicy, resolutionListener);
     }
 
     @Override
-    public final Object resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
-            final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) {
-        final String pageParam;
-        final String sizeParam;
-        final int    parsedPage;
-        final int    page;
-        final int    parsedSize;
-        final int    size;
-
-        // Parse page
-        pageParam = webRequest.getParameter("page");
-        if (pageParam == null) {
-            page = DEFAULT_PAGE;
-            log.debug("Received no page, changed to {}", page);
-        } else {
-            parsedPage = Integer.parseInt(pageParam);
-            if (parsedPage > 0) {
-                page = parsedPage;
-            } else {
-                page = DEFAULT_PAGE;
-                log.warn("Received page {}, changed to {}", parsedPage, page);
-            }
-        }
+    public final long getClampedSizes() {
+        return reader.getClampedSizes();
+    }
 
-        // Parse size
-        sizeParam = webRequest.getParameter("size");
-        if (sizeParam == null) {
-            size = DEFAULT_SIZE;
-            log.debug("Received no size, changed to {}", size);
-        } else {
-            parsedSize = Integer.parseInt(sizeParam);
-            if (parsedSize > 0) {
-                size = parsedSize;
-            } else {
-                size = DEFAULT_SIZE;
-                log.warn("Received size {}, changed to {}", parsedSize, size);
-            }
-        }
+    @Override
+    public final long getRejectedSizes() {
+        return reader.getRejectedSizes();
+    }
 
-        return new Pagination(page, size);
+    @Override
+    public final Object resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
+            final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) {
+        return reader.read(parameter, webRequest::getParameter);
     }
 
     @Override
     public final boolean supportsParameter(final MethodParameter parameter) {
-        return parameter.getParameterType()
-            .equals(Pagination.class);
+        return reader.supports(parameter);
     }
 
 }
@@ -0,0 +1,193 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.ws.request.domain.model.PaginationRequest;
+
+/**
+ * Reads a {@link Pagination} or a {@link PaginationRequest} from the request parameters. Shared by the servlet and
+ * reactive argument resolvers, which only differ on how the parameters are taken from the request.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class PaginationReader {
+
+    public static final int                  DEFAULT_MAX_SIZE = 100;
+
+    public static final int                  DEFAULT_PAGE     = 1;
+
+    public static final int                  DEFAULT_SIZE     = 10;
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger              log              = LoggerFactory.getLogger(PaginationReader.class);
+
+    /**
+     * Receives the resolved arguments.
+     */
+    private final ArgumentResolutionListener listener;
+
+    /**
+     * Parses the page and size.
+     */
+    private final IntParameterParser         parser;
+
+    /**
+     * Maximum page size.
+     */
+    private final PageSizeLimit              sizeLimit;
+
+    public PaginationReader(final int maxSize, final PageSizePolicy policy,
+            final MalformedParameterPolicy malformedPolicy, final ArgumentResolutionListener resolutionListener) {
+        super();
+
+        sizeLimit = new PageSizeLimit(maxSize, policy);
+        parser = new IntParameterParser(malformedPolicy);
+        listener = resolutionListener;
+    }
+
+    public final long getClampedSizes() {
+        return sizeLimit.getClamped();
+    }
+
+    public final long getRejectedSizes() {
+        return sizeLimit.getRejected();
+    }
+
+    /**
+     * Returns the argument for the parameter. This is a {@code Pagination} or a {@code PaginationRequest}, or an
+     * optional one if the parameter is optional.
+     *
+     * @param parameter
+     *            parameter being resolved
+     * @param params
+     *            returns the first value for a request parameter, or null if it is missing
+     * @return the argument for the parameter
+     */
+    public final Object read(final MethodParameter parameter, final UnaryOperator<String> params) {
+        final long   start;
+        final Object pagination;
+
+        start = System.nanoTime();
+        if (!parameter.isOptional()) {
+            pagination = toArgument(parameter, params);
+        } else if ("false".equalsIgnoreCase(params.apply("paged"))) {
+            log.debug("Received unpaged request");
+            pagination = Optional.empty();
+        } else {
+            pagination = Optional.of(toArgument(parameter, params));
+        }
+        listener.onResolved(Pagination.class, System.nanoTime() - start);
+
+        return pagination;
+    }
+
+    public final boolean supports(final MethodParameter parameter) {
+        final Class<?> type;
+
+        type = parameter.nestedIfOptional()
+            .getNestedParameterType();
+        return type.equals(Pagination.class) || type.equals(PaginationRequest.class);
+    }
+
+    private final Object toArgument(final MethodParameter parameter, final UnaryOperator<String> params) {
+        final Pagination pagination;
+        final boolean    count;
+        final Object     argument;
+
+        pagination = toPagination(parameter, params);
+        if (parameter.nestedIfOptional()
+            .getNestedParameterType()
+            .equals(PaginationRequest.class)) {
+            // Slices are requested explicitly, by default the totals are counted
+            count = !"false".equalsIgnoreCase(params.apply("count"));
+            if (!count) {
+                log.debug("Received slice request");
+            }
+            argument = new PaginationRequest(pagination, count);
+        } else {
+            argument = pagination;
+        }
+
+        return argument;
+    }
+
+    private final Pagination toPagination(final MethodParameter parameter, final UnaryOperator<String> params) {
+        final String pageParam;
+        final String sizeParam;
+        final int    parsedPage;
+        final int    page;
+        final int    parsedSize;
+        final int    requestedSize;
+        final int    size;
+
+        // Parse page
+        pageParam = params.apply("page");
+        if (pageParam == null) {
+            page = DEFAULT_PAGE;
+            log.debug("Received no page, changed to {}", page);
+        } else {
+            parsedPage = parser.parse("page", pageParam, DEFAULT_PAGE);
+            if (parsedPage > 0) {
+                page = parsedPage;
+            } else {
+                page = DEFAULT_PAGE;
+                log.warn("Received page {}, changed to {}", parsedPage, page);
+            }
+        }
+
+        // Parse size
+        sizeParam = params.apply("size");
+        if (sizeParam == null) {
+            size = DEFAULT_SIZE;
+            requestedSize = size;
+            log.debug("Received no size, changed to {}", size);
+        } else {
+            parsedSize = parser.parse("size", sizeParam, DEFAULT_SIZE);
+            requestedSize = parsedSize;
+            if (parsedSize > 0) {
+                size = sizeLimit.apply(parameter, parsedSize);
+            } else {
+                size = DEFAULT_SIZE;
+                log.warn("Received size {}, changed to {}", parsedSize, size);
+            }
+        }
+
+        listener.onPageSize(Pagination.class, requestedSize, size);
+
+        return new Pagination(page, size);
+    }
+
+}
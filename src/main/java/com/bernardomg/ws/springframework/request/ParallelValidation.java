@@ -0,0 +1,68 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates the elements of a collection request body in parallel. Meant for bulk endpoints receiving large lists,
+ * where validating the elements one by one would take most of the request time.
+ * <p>
+ * It replaces {@code @Valid} on the parameter, the elements are validated by {@link ParallelValidationAdvice}. The
+ * failures are indexed by element, so the failure for the {@code name} field of the second element is
+ * {@code [1].name}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ParallelValidation {
+
+    /**
+     * Stops validating after the first invalid element. Only the failures of that element are returned.
+     * <p>
+     * When validating in parallel, the elements being validated when the first failure is found are still finished.
+     * The failures returned are those of the lowest invalid element among the validated ones, which is not always the
+     * first invalid element of the collection.
+     *
+     * @return {@code true} to stop after the first invalid element
+     */
+    boolean failFast() default false;
+
+    /**
+     * Maximum number of failures to collect. Validation stops once it is reached. If it is not positive the failures
+     * are not limited.
+     *
+     * @return the maximum number of failures
+     */
+    int maxErrors() default 100;
+
+}
@@ -0,0 +1,271 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Validates the elements of the collection request bodies annotated with {@link ParallelValidation}. The elements are
+ * validated in parallel, on a fork-join pool owned by the advice, so large bodies don't take over the common pool.
+ * Small collections are not worth splitting, and are validated in the request thread.
+ * <p>
+ * The request locale is kept on the pool threads while validating, so the failure messages are in the same language
+ * as for any other request.
+ * <p>
+ * All the failures are thrown together in a {@link CollectionValidationException}, sorted by element. Once the failure
+ * limit is reached, or on fail fast after the first invalid element, the remaining elements are skipped. As the
+ * elements are validated in no particular order, these are not always the first failures of the collection.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+@RestControllerAdvice
+public class ParallelValidationAdvice extends RequestBodyAdviceAdapter implements AutoCloseable {
+
+    /**
+     * Default minimum number of elements to validate in parallel.
+     */
+    public static final int            DEFAULT_THRESHOLD = 256;
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger        log               = LoggerFactory.getLogger(ParallelValidationAdvice.class);
+
+    /**
+     * Builds the codes for the failures.
+     */
+    private final MessageCodesResolver codesResolver     = new DefaultMessageCodesResolver();
+
+    /**
+     * Pool where the elements are validated.
+     */
+    private final ForkJoinPool         pool;
+
+    /**
+     * Minimum number of elements to validate in parallel.
+     */
+    private final int                  threshold;
+
+    /**
+     * Validates each element.
+     */
+    private final Validator            validator;
+
+    /**
+     * Constructs an advice with the received validator. Uses one thread per available processor.
+     *
+     * @param elementValidator
+     *            validates each element
+     */
+    public ParallelValidationAdvice(final Validator elementValidator) {
+        this(elementValidator, Runtime.getRuntime()
+            .availableProcessors(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructs an advice with the received validator, parallelism and threshold.
+     *
+     * @param elementValidator
+     *            validates each element
+     * @param parallelism
+     *            number of threads validating the elements
+     * @param minElements
+     *            minimum number of elements to validate in parallel
+     */
+    public ParallelValidationAdvice(final Validator elementValidator, final int parallelism, final int minElements) {
+        super();
+
+        validator = elementValidator;
+        pool = new ForkJoinPool(parallelism);
+        threshold = minElements;
+    }
+
+    @Override
+    public final Object afterBodyRead(final Object body, final HttpInputMessage inputMessage,
+            final MethodParameter parameter, final Type targetType,
+            final Class<? extends HttpMessageConverter<?>> converterType) {
+        final ParallelValidation settings;
+        final String             objectName;
+        final List<FieldError>   errors;
+
+        if (body instanceof final Collection<?> collection) {
+            settings = parameter.getParameterAnnotation(ParallelValidation.class);
+            objectName = Conventions.getVariableNameForParameter(parameter);
+            errors = validate(new ArrayList<>(collection), objectName, settings);
+            if (!errors.isEmpty()) {
+                log.debug("Found {} failures in {} elements", errors.size(), collection.size());
+                throw new CollectionValidationException(errors);
+            }
+        }
+
+        return body;
+    }
+
+    /**
+     * Shuts down the validation pool.
+     */
+    @Override
+    public final void close() {
+        pool.shutdown();
+    }
+
+    @Override
+    public final boolean supports(final MethodParameter methodParameter, final Type targetType,
+            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return methodParameter.hasParameterAnnotation(ParallelValidation.class);
+    }
+
+    private final FieldError toFieldError(final String objectName, final int index,
+            final ConstraintViolation<Object> violation) {
+        final String   path;
+        final String   field;
+        final String   code;
+        final String[] codes;
+
+        path = violation.getPropertyPath()
+            .toString();
+        if (path.isEmpty()) {
+            field = "[" + index + "]";
+        } else {
+            field = "[" + index + "]." + path;
+        }
+
+        code = violation.getConstraintDescriptor()
+            .getAnnotation()
+            .annotationType()
+            .getSimpleName();
+        codes = codesResolver.resolveMessageCodes(code, objectName, field, null);
+
+        return new FieldError(objectName, field, violation.getInvalidValue(), false, codes, null,
+            violation.getMessage());
+    }
+
+    private final List<FieldError> validate(final List<?> elements, final String objectName,
+            final ParallelValidation settings) {
+        final Map<Integer, List<FieldError>> invalid;
+        final AtomicInteger                  errorCount;
+        final int                            maxErrors;
+        final IntConsumer                    check;
+        final LocaleContext                  localeContext;
+        final IntConsumer                    localizedCheck;
+        final IntStream                      indexes;
+        final List<FieldError>               errors;
+
+        if (settings.maxErrors() > 0) {
+            maxErrors = settings.maxErrors();
+        } else {
+            maxErrors = Integer.MAX_VALUE;
+        }
+
+        // Sorted by index, so the failures are returned in the same order as the elements
+        invalid = new ConcurrentSkipListMap<>();
+        errorCount = new AtomicInteger();
+        check = index -> {
+            final Object                           element;
+            final Set<ConstraintViolation<Object>> violations;
+
+            element = elements.get(index);
+            // The stream can't be stopped, once the limits are reached the remaining elements are skipped
+            if ((element != null) && (errorCount.get() < maxErrors)
+                    && (!settings.failFast() || invalid.isEmpty())) {
+                violations = validator.validate(element);
+                if (!violations.isEmpty()) {
+                    errorCount.addAndGet(violations.size());
+                    invalid.put(index, violations.stream()
+                        .map(violation -> toFieldError(objectName, index, violation))
+                        .toList());
+                }
+            }
+        };
+
+        if (elements.size() < threshold) {
+            IntStream.range(0, elements.size())
+                .forEach(check);
+        } else {
+            // The messages are interpolated with the request locale, which is not available on the pool threads
+            localeContext = LocaleContextHolder.getLocaleContext();
+            localizedCheck = index -> {
+                final LocaleContext previous;
+
+                previous = LocaleContextHolder.getLocaleContext();
+                LocaleContextHolder.setLocaleContext(localeContext);
+                try {
+                    check.accept(index);
+                } finally {
+                    LocaleContextHolder.setLocaleContext(previous);
+                }
+            };
+            indexes = IntStream.range(0, elements.size())
+                .parallel();
+            pool.submit(() -> indexes.forEach(localizedCheck))
+                .join();
+        }
+
+        if (settings.failFast()) {
+            // Only the first invalid element found is kept
+            errors = invalid.values()
+                .stream()
+                .findFirst()
+                .orElse(List.of());
+        } else {
+            errors = invalid.values()
+                .stream()
+                .flatMap(List::stream)
+                .limit(maxErrors)
+                .toList();
+        }
+
+        return errors;
+    }
+
+}
@@ -0,0 +1,103 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.bernardomg.ws.request.domain.model.Projection;
+
+/**
+ * Argument resolver to acquire a {@link Projection} from the {@code fields} request params. If these are missing, the
+ * projection includes all the fields.
+ * <p>
+ * The projection is also stored in the request, so the response can be written with only the requested fields. This
+ * only happens for the endpoints which receive it.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ProjectionArgumentResolver implements HandlerMethodArgumentResolver {
+
+    /**
+     * Request attribute where the resolved projection is stored.
+     */
+    public static final String               PROJECTION_ATTRIBUTE = ProjectionArgumentResolver.class.getName()
+            + ".PROJECTION";
+
+    /**
+     * Receives the resolved arguments.
+     */
+    private final ArgumentResolutionListener listener;
+
+    /**
+     * Default constructor.
+     */
+    public ProjectionArgumentResolver() {
+        this(ArgumentResolutionListener.NO_OP);
+    }
+
+    /**
+     * Constructs a resolver which notifies the listener of the resolved projections.
+     *
+     * @param resolutionListener
+     *            receives the resolved arguments
+     */
+    public ProjectionArgumentResolver(final ArgumentResolutionListener resolutionListener) {
+        super();
+
+        listener = resolutionListener;
+    }
+
+    @Override
+    public final Object resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
+            final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) {
+        final long       start;
+        final String[]   values;
+        final Projection projection;
+
+        start = System.nanoTime();
+        values = webRequest.getParameterValues("fields");
+        if (values == null) {
+            projection = Projection.ALL;
+        } else {
+            projection = ProjectionParser.parse(values);
+        }
+        webRequest.setAttribute(PROJECTION_ATTRIBUTE, projection, RequestAttributes.SCOPE_REQUEST);
+        listener.onResolved(Projection.class, System.nanoTime() - start);
+
+        return projection;
+    }
+
+    @Override
+    public final boolean supportsParameter(final MethodParameter parameter) {
+        return Projection.class.equals(parameter.getParameterType());
+    }
+
+}
@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.bernardomg.ws.request.domain.model.Projection;
+
+/**
+ * Parses the {@code fields} request params into a {@link Projection}.
+ * <p>
+ * Each param is a list of field paths separated by commas, such as {@code name,address.city}. Nested fields are
+ * separated by dots. Requesting a field includes all of it, even if some of its nested fields are requested too.
+ * Blank paths are ignored.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class ProjectionParser {
+
+    /**
+     * Mutable projection node, used while parsing.
+     */
+    private static final class Node {
+
+        /**
+         * Nested fields.
+         */
+        private final Map<String, Node> children = new HashMap<>();
+
+        /**
+         * Marks the field as included completely.
+         */
+        private boolean                 complete;
+
+        private final Projection toProjection() {
+            final Map<String, Projection> fields;
+
+            fields = new HashMap<>();
+            children.forEach((name, child) -> {
+                if (child.complete) {
+                    fields.put(name, Projection.ALL);
+                } else {
+                    fields.put(name, child.toProjection());
+                }
+            });
+
+            return new Projection(true, fields);
+        }
+
+    }
+
+    /**
+     * Parses the fields params.
+     *
+     * @param values
+     *            fields params
+     * @return the projection for the params, or a projection including everything if no field was requested
+     */
+    public static final Projection parse(final String[] values) {
+        final Node       root;
+        final Projection projection;
+        Node             node;
+
+        root = new Node();
+        for (final String value : values) {
+            for (final String path : value.split(",")) {
+                if (!path.isBlank()) {
+                    node = root;
+                    for (final String field : path.strip()
+                        .split("\\.")) {
+                        if (!field.isBlank()) {
+                            node = node.children.computeIfAbsent(field.strip(), f -> new Node());
+                        }
+                    }
+                    node.complete = true;
+                }
+            }
+        }
+
+        if (root.children.isEmpty()) {
+            projection = Projection.ALL;
+        } else {
+            projection = root.toProjection();
+        }
+
+        return projection;
+    }
+
+    private ProjectionParser() {
+        super();
+    }
+
+}
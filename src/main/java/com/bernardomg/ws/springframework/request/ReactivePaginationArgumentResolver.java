@@ -0,0 +1,126 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.SyncHandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.bernardomg.pagination.domain.Pagination;
+
+/**
+ * Reactive argument resolver to acquire a {@link Pagination} from the query parameters. It works the same way as
+ * {@link PaginationArgumentResolver}, including the page size limit and the unpaged mode.
+ * <p>
+ * Parsing the parameters doesn't block, so the argument is resolved synchronously.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ReactivePaginationArgumentResolver implements SyncHandlerMethodArgumentResolver, PageSizeCounters {
+
+    /**
+     * Reads the pagination from the query parameters.
+     */
+    private final PaginationReader reader;
+
+    /**
+     * Default constructor. Oversized pages are clamped to the default maximum size.
+     */
+    public ReactivePaginationArgumentResolver() {
+        this(PaginationReader.DEFAULT_MAX_SIZE, PageSizePolicy.CLAMP);
+    }
+
+    /**
+     * Constructs a resolver with the received page size limit.
+     *
+     * @param maxSize
+     *            maximum page size, if it is not positive there is no limit
+     * @param policy
+     *            what to do with oversized pages
+     */
+    public ReactivePaginationArgumentResolver(final int maxSize, final PageSizePolicy policy) {
+        this(maxSize, policy, ArgumentResolutionListener.NO_OP);
+    }
+
+    /**
+     * Constructs a resolver with the received page size limit, which notifies the resolved arguments.
+     *
+     * @param maxSize
+     *            maximum page size, if it is not positive there is no limit
+     * @param policy
+     *            what to do with oversized pages
+     * @param resolutionListener
+     *            receives the resolved arguments
+     */
+    public ReactivePaginationArgumentResolver(final int maxSize, final PageSizePolicy policy,
+            final ArgumentResolutionListener resolutionListener) {
+        this(maxSize, policy, MalformedParameterPolicy.REJECT, resolutionListener);
+    }
+
+    /**
+     * Constructs a resolver with the received page size limit and policy for malformed params, which notifies the
+     * resolved arguments.
+     *
+     * @param maxSize
+     *            maximum page size, if it is not positive there is no limit
+     * @param policy
+     *            what to do with oversized pages
+     * @param malformedPolicy
+     *            what to do with malformed page and size params
+     * @param resolutionListener
+     *            receives the resolved arguments
+     */
+    public ReactivePaginationArgumentResolver(final int maxSize, final PageSizePolicy policy,
+            final MalformedParameterPolicy malformedPolicy, final ArgumentResolutionListener resolutionListener) {
+        super();
+
+        reader = new PaginationReader(maxSize, policy, malformedPolicy, resolutionListener);
+    }
+
+    @Override
+    public final long getClampedSizes() {
+        return reader.getClampedSizes();
+    }
+
+    @Override
+    public final long getRejectedSizes() {
+        return reader.getRejectedSizes();
+    }
+
+    @Override
+    public final Object resolveArgumentValue(final MethodParameter parameter, final BindingContext bindingContext,
+            final ServerWebExchange exchange) {
+        return reader.read(parameter, exchange.getRequest()
+            .getQueryParams()::getFirst);
+    }
+
+    @Override
+    public final boolean supportsParameter(final MethodParameter parameter) {
+        return reader.supports(parameter);
+    }
+
+}
@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.SyncHandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.bernardomg.pagination.domain.Sorting;
+
+/**
+ * Reactive argument resolver to acquire a {@link Sorting} from the query parameters. It works the same way as
+ * {@link SortingArgumentResolver}, including the cache and the allowed properties.
+ * <p>
+ * Parsing the parameters doesn't block, so the argument is resolved synchronously.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ReactiveSortingArgumentResolver implements SyncHandlerMethodArgumentResolver, SortingCounters {
+
+    /**
+     * Reads the sorting from the query parameters.
+     */
+    private final SortingReader reader;
+
+    /**
+     * Default constructor. The cache is disabled.
+     */
+    public ReactiveSortingArgumentResolver() {
+        this(0);
+    }
+
+    /**
+     * Constructs a resolver caching the parsed sortings. If the size is not positive the cache is disabled.
+     *
+     * @param size
+     *            maximum number of cached sortings
+     */
+    public ReactiveSortingArgumentResolver(final int size) {
+        this(size, ArgumentResolutionListener.NO_OP);
+    }
+
+    /**
+     * Constructs a resolver caching the parsed sortings, which notifies the resolved arguments. If the size is not
+     * positive the cache is disabled.
+     *
+     * @param size
+     *            maximum number of cached sortings
+     * @param resolutionListener
+     *            receives the resolved arguments
+     */
+    public ReactiveSortingArgumentResolver(final int size, final ArgumentResolutionListener resolutionListener) {
+        super();
+
+        reader = new SortingReader(size, resolutionListener);
+    }
+
+    @Override
+    public final long getCacheHits() {
+        return reader.getCacheHits();
+    }
+
+    @Override
+    public final long getCacheMisses() {
+        return reader.getCacheMisses();
+    }
+
+    @Override
+    public final long getDroppedSortProperties() {
+        return reader.getDroppedSortProperties();
+    }
+
+    @Override
+    public final long getRejectedSortProperties() {
+        return reader.getRejectedSortProperties();
+    }
+
+    @Override
+    public final Object resolveArgumentValue(final MethodParameter parameter, final BindingContext bindingContext,
+            final ServerWebExchange exchange) {
+        final List<String> propertiesParams;
+        final String[]     values;
+
+        propertiesParams = exchange.getRequest()
+            .getQueryParams()
+            .get("sort");
+        if (propertiesParams == null) {
+            values = null;
+        } else {
+            values = propertiesParams.toArray(String[]::new);
+        }
+
+        return reader.read(parameter, values);
+    }
+
+    @Override
+    public final boolean supportsParameter(final MethodParameter parameter) {
+        return reader.supports(parameter);
+    }
+
+}
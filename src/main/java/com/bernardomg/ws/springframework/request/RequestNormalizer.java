@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.UnaryOperator;
+
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.pagination.domain.Sorting;
+
+/**
+ * Normalizes the pagination and sorting params, so equivalent requests can be recognized. The params are parsed in the
+ * same way as in the argument resolvers, and the defaults are applied, but the endpoint limits aren't. So oversized
+ * pages and not allowed sort properties are kept as received, and the resolvers still clamp or reject them.
+ * <p>
+ * Nothing is logged or counted, as the params are still to be resolved for the endpoint. Malformed pagination params
+ * can't be normalized, as the resolvers may replace or reject them.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class RequestNormalizer {
+
+    /**
+     * Returns the normalized pagination. If the page or size are malformed, the optional is empty.
+     *
+     * @param params
+     *            returns the first value for a request parameter, or null if it is missing
+     * @return the normalized pagination, or an empty optional if it is malformed
+     */
+    public static final Optional<Pagination> pagination(final UnaryOperator<String> params) {
+        final OptionalInt          page;
+        final OptionalInt          size;
+        final Optional<Pagination> pagination;
+
+        page = positiveOrDefault(params.apply("page"), PaginationReader.DEFAULT_PAGE);
+        size = positiveOrDefault(params.apply("size"), PaginationReader.DEFAULT_SIZE);
+        if (page.isPresent() && size.isPresent()) {
+            pagination = Optional.of(new Pagination(page.getAsInt(), size.getAsInt()));
+        } else {
+            pagination = Optional.empty();
+        }
+
+        return pagination;
+    }
+
+    /**
+     * Returns the normalized sorting.
+     *
+     * @param propertiesParams
+     *            raw sort param values, may be null
+     * @return the normalized sorting
+     */
+    public static final Sorting sorting(final String[] propertiesParams) {
+        final Sorting sorting;
+
+        if ((propertiesParams == null) || (propertiesParams.length == 0)) {
+            sorting = new Sorting(List.of());
+        } else {
+            sorting = SortingParser.parse(propertiesParams);
+        }
+
+        return sorting;
+    }
+
+    private static final OptionalInt positiveOrDefault(final String param, final int defaultValue) {
+        final OptionalInt parsed;
+        final OptionalInt value;
+
+        if (param == null) {
+            value = OptionalInt.of(defaultValue);
+        } else {
+            parsed = IntParameterParser.parse(param);
+            if (parsed.isPresent() && (parsed.getAsInt() <= 0)) {
+                value = OptionalInt.of(defaultValue);
+            } else {
+                value = parsed;
+            }
+        }
+
+        return value;
+    }
+
+    private RequestNormalizer() {
+        super();
+    }
+
+}
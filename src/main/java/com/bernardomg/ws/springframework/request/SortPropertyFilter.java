@@ -0,0 +1,169 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.pagination.domain.Sorting.Property;
+import com.bernardomg.validation.domain.exception.FieldFailureException;
+import com.bernardomg.validation.domain.model.FieldFailure;
+
+/**
+ * Applies the allowed sort properties. These are taken from the {@link SortProperties} annotation on the parameter, if
+ * there is no annotation all the properties are allowed.
+ * <p>
+ * The annotation is read once for each parameter, and kept for the following requests.
+ * <p>
+ * Keeps count of the dropped and rejected properties.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class SortPropertyFilter {
+
+    /**
+     * Allowed properties for a parameter.
+     *
+     * @param properties
+     *            allowed properties, null if all are allowed
+     * @param policy
+     *            policy for not allowed properties
+     */
+    private record AllowedProperties(Set<String> properties, SortPropertyPolicy policy) {
+
+        public final boolean isAllowed(final Property property) {
+            return (properties == null) || properties.contains(property.name());
+        }
+
+    }
+
+    /**
+     * Allows all the properties.
+     */
+    private static final AllowedProperties                ANY      = new AllowedProperties(null,
+        SortPropertyPolicy.DROP);
+
+    /**
+     * Logger for the class.
+     */
+    private static final Logger                           log      = LoggerFactory.getLogger(SortPropertyFilter.class);
+
+    /**
+     * Allowed properties for each parameter.
+     */
+    private final Map<MethodParameter, AllowedProperties> allowed  = new ConcurrentHashMap<>();
+
+    /**
+     * Number of dropped properties.
+     */
+    private final LongAdder                               dropped  = new LongAdder();
+
+    /**
+     * Number of rejected properties.
+     */
+    private final LongAdder                               rejected = new LongAdder();
+
+    public SortPropertyFilter() {
+        super();
+    }
+
+    /**
+     * Returns the sorting with only the allowed properties. If all the properties are allowed the same sorting is
+     * returned.
+     *
+     * @param parameter
+     *            parameter being resolved
+     * @param sorting
+     *            received sorting
+     * @return the sorting to use
+     * @throws FieldFailureException
+     *             if there are not allowed properties and the policy rejects them
+     */
+    public final Sorting apply(final MethodParameter parameter, final Sorting sorting) {
+        final AllowedProperties  allowedProperties;
+        final List<Property>     valid;
+        final List<FieldFailure> failures;
+        final Sorting            result;
+
+        allowedProperties = allowed.computeIfAbsent(parameter, this::readAllowed);
+        if ((allowedProperties == ANY) || sorting.properties()
+            .stream()
+            .allMatch(allowedProperties::isAllowed)) {
+            result = sorting;
+        } else if (allowedProperties.policy() == SortPropertyPolicy.REJECT) {
+            failures = sorting.properties()
+                .stream()
+                .filter(p -> !allowedProperties.isAllowed(p))
+                .map(p -> new FieldFailure("invalid", "sort", "Sorting by this property is not allowed", p.name()))
+                .toList();
+            rejected.add(failures.size());
+            log.debug("Rejected sort properties {}", failures);
+            throw new FieldFailureException("Sort properties not allowed", failures);
+        } else {
+            valid = sorting.properties()
+                .stream()
+                .filter(allowedProperties::isAllowed)
+                .toList();
+            dropped.add(sorting.properties()
+                .size() - valid.size());
+            log.debug("Received sorting {}, changed to {}", sorting, valid);
+            result = new Sorting(valid);
+        }
+
+        return result;
+    }
+
+    public final long getDropped() {
+        return dropped.sum();
+    }
+
+    public final long getRejected() {
+        return rejected.sum();
+    }
+
+    private final AllowedProperties readAllowed(final MethodParameter parameter) {
+        final SortProperties    annotation;
+        final AllowedProperties allowedProperties;
+
+        annotation = parameter.getParameterAnnotation(SortProperties.class);
+        if (annotation == null) {
+            allowedProperties = ANY;
+        } else {
+            allowedProperties = new AllowedProperties(Set.of(annotation.value()), annotation.policy());
+        }
+
+        return allowedProperties;
+    }
+
+}
@@ -24,10 +24,6 @@
 
 package com.bernardomg.ws.springframework.request;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.List;
-
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -35,59 +31,88 @@
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import com.bernardomg.pagination.domain.Sorting;
-import com.bernardomg.pagination.domain.Sorting.Direction;
-import com.bernardomg.pagination.domain.Sorting.Property;
 
 /**
- * Argument resolver to acquire a {@link Sorting} from the request parameters.
+ * Argument resolver to acquire a {@link Sorting} from the request parameters. These are parsed with
+ * {@link SortingParser}.
+ * <p>
+ * Optionally it caches the parsed sortings, keyed by the raw {@code sort} param values. As clients tend to repeat the
+ * same few combinations, this avoids parsing them again on each request. The cache is bounded, once full it evicts
+ * the sortings not used recently. Sortings with properties which are not allowed are never stored.
+ * <p>
+ * The properties can be limited with the {@link SortProperties} annotation. Those not allowed are dropped or rejected.
  *
  * @author Bernardo Mart&iacute;nez Garrido
  *
  */
-public final class SortingArgumentResolver implements HandlerMethodArgumentResolver {
+public final class SortingArgumentResolver implements HandlerMethodArgumentResolver, SortingCounters {
+
+    /**
+     * Reads the sorting from the request parameters.
+     */
+    private final SortingReader reader;
+
+    /**
+     * Default constructor. The cache is disabled.
+     */
+    public SortingArgumentResolver() {
+        this(0);
+    }
+
+    /**
+     * Constructs a resolver caching the parsed sortings. If the size is not positive the cache is disabled.
+     *
+     * @param size
+     *            maximum number of cached sortings
+     */
+    public SortingArgumentResolver(final int size) {
+        this(size, ArgumentResolutionListener.NO_OP);
+    }
+
+    /**
+     * Constructs a resolver caching the parsed sortings, which notifies the resolved arguments. If the size is not
+     * positive the cache is disabled.
+     *
+     * @param size
+     *            maximum number of cached sortings
+     * @param resolutionListener
+     *            receives the resolved arguments
+     */
+    public SortingArgumentResolver(final int size, final ArgumentResolutionListener resolutionListener) {
+        super();
+
+        reader = new SortingReader(size, resolutionListener);
+    }
 
     @Override
-    public final Object resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
-            final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) {
-        final String[]             propertiesParams;
-        final Collection<Property> properties;
-
-        propertiesParams = webRequest.getParameterValues("sort");
-        if (propertiesParams != null) {
-            properties = Arrays.stream(propertiesParams)
-                .map(p -> p.split(","))
-                .filter(p -> p.length >= 2)
-                .map(this::toProperty)
-                .toList();
-        } else {
-            properties = List.of();
-        }
-
-        return new Sorting(List.copyOf(properties));
+    public final long getCacheHits() {
+        return reader.getCacheHits();
     }
 
     @Override
-    public final boolean supportsParameter(final MethodParameter parameter) {
-        return parameter.getParameterType()
-            .equals(Sorting.class);
+    public final long getCacheMisses() {
+        return reader.getCacheMisses();
     }
 
-    private final Property toProperty(final String[] parts) {
-        final String    propertyName;
-        final String    directionName;
-        final Direction direction;
+    @Override
+    public final long getDroppedSortProperties() {
+        return reader.getDroppedSortProperties();
+    }
 
-        directionName = parts[1].trim()
-            .toUpperCase();
-        if ("desc".equalsIgnoreCase(directionName)) {
-            direction = Direction.DESC;
-        } else {
-            direction = Direction.ASC;
-        }
+    @Override
+    public final long getRejectedSortProperties() {
+        return reader.getRejectedSortProperties();
+    }
 
-        propertyName = parts[0].trim();
+    @Override
+    public final Object resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
+            final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) {
+        return reader.read(parameter, webRequest.getParameterValues("sort"));
+    }
 
-        return new Property(propertyName, direction);
+    @Override
+    public final boolean supportsParameter(final MethodParameter parameter) {
+        return reader.supports(parameter);
     }
 
 }
@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+/**
+ * Counters kept by the sorting resolvers.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public interface SortingCounters {
+
+    /**
+     * Returns the number of sortings taken from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getCacheHits();
+
+    /**
+     * Returns the number of sortings which had to be parsed, as they weren't in the cache. If the cache is disabled
+     * this is always zero.
+     *
+     * @return the number of cache misses
+     */
+    public long getCacheMisses();
+
+    /**
+     * Returns the number of properties dropped, as they weren't allowed.
+     *
+     * @return the number of dropped properties
+     */
+    public long getDroppedSortProperties();
+
+    /**
+     * Returns the number of properties rejected, as they weren't allowed.
+     *
+     * @return the number of rejected properties
+     */
+    public long getRejectedSortProperties();
+
+}
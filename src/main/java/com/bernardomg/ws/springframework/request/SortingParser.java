@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.pagination.domain.Sorting.Direction;
+import com.bernardomg.pagination.domain.Sorting.Property;
+
+/**
+ * Parses the {@code sort} request params into a {@link Sorting}.
+ * <p>
+ * Each param is a property name and a direction, separated by a comma or a pipe, such as {@code name,desc} or
+ * {@code name|desc}. The direction is case insensitive, and anything other than {@code desc} is taken as ascending.
+ * Params without direction are ignored.
+ * <p>
+ * The params are scanned in a single pass over the raw strings, so only the property names, the properties and the
+ * sorting are allocated.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class SortingParser {
+
+    /**
+     * Descending direction name.
+     */
+    private static final String DESC = "desc";
+
+    /**
+     * Parses the sort params.
+     *
+     * @param values
+     *            sort params
+     * @return the sorting for the params
+     */
+    public static final Sorting parse(final String[] values) {
+        final Property[]     properties;
+        final List<Property> sorted;
+        Property             property;
+        int                  count;
+
+        if (values.length == 1) {
+            // Common case, avoids the intermediate array
+            property = toProperty(values[0]);
+            if (property == null) {
+                sorted = List.of();
+            } else {
+                sorted = List.of(property);
+            }
+        } else {
+            properties = new Property[values.length];
+            count = 0;
+            for (final String value : values) {
+                property = toProperty(value);
+                if (property != null) {
+                    properties[count] = property;
+                    count++;
+                }
+            }
+            if (count < properties.length) {
+                sorted = List.of(Arrays.copyOf(properties, count));
+            } else {
+                sorted = List.of(properties);
+            }
+        }
+
+        return new Sorting(sorted);
+    }
+
+    private static final int indexOfNonSeparator(final String value, final int from) {
+        int index;
+
+        index = from;
+        while ((index < value.length()) && isSeparator(value.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static final int indexOfSeparator(final String value, final int from) {
+        int index;
+
+        index = from;
+        while ((index < value.length()) && !isSeparator(value.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static final boolean isSeparator(final char character) {
+        return (character == ',') || (character == '|');
+    }
+
+    private static final boolean isWhitespace(final char character) {
+        // Same as String.trim()
+        return character <= ' ';
+    }
+
+    private static final Property toProperty(final String value) {
+        final int       separator;
+        final Direction direction;
+        int             directionStart;
+        int             directionEnd;
+        int             nameStart;
+        int             nameEnd;
+
+        separator = indexOfSeparator(value, 0);
+
+        directionStart = separator + 1;
+        directionEnd = indexOfSeparator(value, directionStart);
+        if ((directionEnd <= directionStart) && (indexOfNonSeparator(value, directionStart) >= value.length())) {
+            // No direction
+            return null;
+        }
+
+        // Trims the direction
+        while ((directionStart < directionEnd) && isWhitespace(value.charAt(directionStart))) {
+            directionStart++;
+        }
+        while ((directionEnd > directionStart) && isWhitespace(value.charAt(directionEnd - 1))) {
+            directionEnd--;
+        }
+
+        if (((directionEnd - directionStart) == DESC.length())
+                && value.regionMatches(true, directionStart, DESC, 0, DESC.length())) {
+            direction = Direction.DESC;
+        } else {
+            direction = Direction.ASC;
+        }
+
+        // Trims the name
+        nameStart = 0;
+        nameEnd = separator;
+        while ((nameStart < nameEnd) && isWhitespace(value.charAt(nameStart))) {
+            nameStart++;
+        }
+        while ((nameEnd > nameStart) && isWhitespace(value.charAt(nameEnd - 1))) {
+            nameEnd--;
+        }
+
+        return new Property(value.substring(nameStart, nameEnd), direction);
+    }
+
+    private SortingParser() {
+        super();
+    }
+
+}
@@ -0,0 +1,236 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.request;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.MethodParameter;
+
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.pagination.domain.Sorting.Property;
+
+/**
+ * Reads a {@link Sorting} from the raw {@code sort} param values. Shared by the servlet and reactive argument
+ * resolvers, which only differ on how the values are taken from the request.
+ * <p>
+ * Takes care of the cache and the allowed properties, and keeps count of both. The cache only stores sortings with all
+ * their properties allowed. It is bounded, and once full it evicts a sorting not used recently, giving a second chance
+ * to those used since the last eviction. Reading from the cache takes no locks, so it approximates the least recently
+ * used policy, instead of keeping an exact access order.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class SortingReader {
+
+    /**
+     * Sorting stored in the cache.
+     */
+    private static final class CachedSorting {
+
+        private final Sorting    sorting;
+
+        /**
+         * Flags if the sorting was read since the last eviction.
+         */
+        private volatile boolean used;
+
+        public CachedSorting(final Sorting cached) {
+            super();
+
+            sorting = cached;
+        }
+
+        public final Sorting read() {
+            // Only written when it changes, so hits don't keep writing the same value
+            if (!used) {
+                used = true;
+            }
+
+            return sorting;
+        }
+
+    }
+
+    /**
+     * Empty sorting, returned when there are no sort params.
+     */
+    private static final Sorting                   UNSORTED       = new Sorting(List.of());
+
+    /**
+     * Parsed sortings, keyed by the raw sort param values. Null if the cache is disabled.
+     */
+    private final Map<List<String>, CachedSorting> cache;
+
+    /**
+     * Cache hits.
+     */
+    private final LongAdder                        cacheHits      = new LongAdder();
+
+    /**
+     * Cache misses.
+     */
+    private final LongAdder                        cacheMisses    = new LongAdder();
+
+    /**
+     * Maximum number of entries in the cache.
+     */
+    private final int                              cacheSize;
+
+    /**
+     * Receives the resolved arguments.
+     */
+    private final ArgumentResolutionListener       listener;
+
+    /**
+     * Filter for the allowed properties.
+     */
+    private final SortPropertyFilter               propertyFilter = new SortPropertyFilter();
+
+    public SortingReader(final int maxEntries, final ArgumentResolutionListener resolutionListener) {
+        super();
+
+        listener = resolutionListener;
+        if (maxEntries > 0) {
+            cache = new ConcurrentHashMap<>();
+        } else {
+            cache = null;
+        }
+        cacheSize = maxEntries;
+    }
+
+    public final long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public final long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public final long getDroppedSortProperties() {
+        return propertyFilter.getDropped();
+    }
+
+    public final long getRejectedSortProperties() {
+        return propertyFilter.getRejected();
+    }
+
+    /**
+     * Returns the sorting for the parameter.
+     *
+     * @param parameter
+     *            parameter being resolved
+     * @param propertiesParams
+     *            raw sort param values, may be null
+     * @return the sorting for the parameter
+     */
+    public final Sorting read(final MethodParameter parameter, final String[] propertiesParams) {
+        final long          start;
+        final List<String>  key;
+        final CachedSorting cached;
+        final Sorting       sorting;
+        final Sorting       filtered;
+
+        start = System.nanoTime();
+        if ((propertiesParams == null) || (propertiesParams.length == 0)) {
+            filtered = propertyFilter.apply(parameter, UNSORTED);
+        } else if (cache == null) {
+            filtered = propertyFilter.apply(parameter, SortingParser.parse(propertiesParams));
+        } else {
+            key = List.of(propertiesParams);
+            cached = cache.get(key);
+            if (cached == null) {
+                cacheMisses.increment();
+                sorting = SortingParser.parse(propertiesParams);
+                filtered = propertyFilter.apply(parameter, sorting);
+                // Only allowed properties are stored, so not allowed values can't flood the cache
+                if (filtered == sorting) {
+                    store(key, sorting);
+                }
+            } else {
+                cacheHits.increment();
+                filtered = propertyFilter.apply(parameter, cached.read());
+            }
+        }
+
+        for (final Property property : filtered.properties()) {
+            listener.onSortProperty(property.name(), property.direction());
+        }
+        listener.onResolved(Sorting.class, System.nanoTime() - start);
+
+        return filtered;
+    }
+
+    public final boolean supports(final MethodParameter parameter) {
+        return parameter.getParameterType()
+            .equals(Sorting.class);
+    }
+
+    /**
+     * Removes a sorting from the cache. The first one not used since the last eviction is removed, while the used ones
+     * passed over lose their flag. If all were used, the first one is removed on the second pass.
+     */
+    private final void evict() {
+        Iterator<CachedSorting> entries;
+        CachedSorting           entry;
+        boolean                 evicted;
+
+        evicted = false;
+        while (!evicted && !cache.isEmpty()) {
+            entries = cache.values()
+                .iterator();
+            while (!evicted && entries.hasNext()) {
+                entry = entries.next();
+                if (entry.used) {
+                    entry.used = false;
+                } else {
+                    entries.remove();
+                    evicted = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the sorting in the cache, evicting another one if it is full. As concurrent misses don't wait for each
+     * other, the cache may go over its size for a moment.
+     *
+     * @param key
+     *            raw sort param values
+     * @param sorting
+     *            sorting to store
+     */
+    private final void store(final List<String> key, final Sorting sorting) {
+        if (cache.size() >= cacheSize) {
+            evict();
+        }
+        cache.put(key, new CachedSorting(sorting));
+    }
+
+}
@@ -0,0 +1,163 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpResponse;
+
+/**
+ * Serializes response bodies in memory, with the same message converter Spring MVC selected for them. Shared by the
+ * components which need the serialized body before writing it.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class BodySerializer {
+
+    /**
+     * Serialized body.
+     *
+     * @param contentType
+     *            body content type
+     * @param content
+     *            serialized body
+     * @param etag
+     *            strong ETag for the body
+     */
+    public record SerializedBody(MediaType contentType, byte[] content, String etag) {
+
+        /**
+         * Writes the body into the response, along its content type and length.
+         *
+         * @param response
+         *            response where the body is written
+         */
+        public final void write(final ServerHttpResponse response) {
+            response.getHeaders()
+                .setContentType(contentType);
+            response.getHeaders()
+                .setContentLength(content.length);
+            try {
+                response.getBody()
+                    .write(content);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+    /**
+     * In-memory output message, to serialize the bodies.
+     */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body    = new ByteArrayOutputStream();
+
+        private final HttpHeaders           headers = new HttpHeaders();
+
+        @Override
+        public final OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public final HttpHeaders getHeaders() {
+            return headers;
+        }
+
+    }
+
+    /**
+     * Message converters to serialize the bodies.
+     */
+    private final Collection<HttpMessageConverter<?>> converters;
+
+    public BodySerializer(final Collection<HttpMessageConverter<?>> messageConverters) {
+        super();
+
+        converters = List.copyOf(messageConverters);
+    }
+
+    /**
+     * Serializes the body with the selected converter. If there is no converter of that type, it can't be serialized
+     * and an empty optional is returned.
+     *
+     * @param body
+     *            body to serialize
+     * @param contentType
+     *            selected content type
+     * @param converterType
+     *            selected message converter
+     * @return the serialized body, if it could be serialized
+     */
+    @SuppressWarnings("unchecked")
+    public final Optional<SerializedBody> serialize(final Object body, final MediaType contentType,
+            final Class<? extends HttpMessageConverter<?>> converterType) {
+        final Optional<HttpMessageConverter<Object>> converter;
+        final BufferedOutputMessage                  message;
+        final Optional<SerializedBody>               serialized;
+        final byte[]                                 content;
+        MediaType                                    serializedType;
+
+        converter = converters.stream()
+            .filter(converterType::isInstance)
+            .map(c -> (HttpMessageConverter<Object>) c)
+            .findFirst();
+        if (converter.isEmpty()) {
+            serialized = Optional.empty();
+        } else {
+            message = new BufferedOutputMessage();
+            try {
+                converter.get()
+                    .write(body, contentType, message);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            content = message.body.toByteArray();
+
+            serializedType = message.getHeaders()
+                .getContentType();
+            if (serializedType == null) {
+                serializedType = contentType;
+            }
+            serialized = Optional.of(new SerializedBody(serializedType, content, ConditionalRequests.toETag(content)));
+        }
+
+        return serialized;
+    }
+
+}
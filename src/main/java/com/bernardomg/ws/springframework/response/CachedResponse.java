@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the serialized responses of a GET endpoint. The responses are keyed on the request path, the normalized
+ * pagination and sorting, the rest of query params, the {@code Accept} header and the selected headers. So requests
+ * asking for the same page of data share the response, and the endpoint is not called again until it expires.
+ * <p>
+ * Each endpoint has its own cache, bounded to a maximum number of entries. The least recently used entries are removed
+ * once it is full. Entries can be evicted explicitly through {@link ResponseCache}.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @see ResponseCacheInterceptor
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {
+
+    /**
+     * Request headers which change the response, and are added to the key.
+     *
+     * @return the headers added to the key
+     */
+    String[] headers() default {};
+
+    /**
+     * Maximum number of cached responses.
+     *
+     * @return the maximum number of cached responses
+     */
+    int maxEntries() default 256;
+
+    /**
+     * Time the responses are kept in the cache, in {@link #timeUnit()}.
+     *
+     * @return the time the responses are kept
+     */
+    long ttl() default 60;
+
+    /**
+     * Unit for the {@link #ttl()}.
+     *
+     * @return the unit for the ttl
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * Cache name, used to evict its responses. By default it is the controller class name and the method name, joined
+     * by {@code #}.
+     *
+     * @return the cache name
+     */
+    String value() default "";
+
+}
@@ -0,0 +1,476 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Response which compresses its body with gzip, once it is known to be big enough. The body is buffered until it
+ * reaches the minimum size, and then it is decided if the response is compressed, depending on its media type.
+ * Responses finished before reaching the minimum size are never compressed.
+ * <p>
+ * Flushing the body stream doesn't decide the response, as the message converters flush every body they write. A
+ * compressible body is kept in the buffer until it reaches the minimum size, while any other body is sent at once.
+ * Flushing the response buffer commits the response, so the response is decided then. The body size is only known if
+ * the content length was set, so a committed body without it is compressed even if it is small.
+ * <p>
+ * The content length is kept until the response is decided, as it is only valid if the response is not compressed.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    /**
+     * Size of the compression buffer.
+     */
+    private static final int            BUFFER_SIZE   = 8192;
+
+    /**
+     * Encoding for compressed responses.
+     */
+    private static final String         GZIP          = "gzip";
+
+    /**
+     * Body received before deciding if the response is compressed.
+     */
+    private final ByteArrayOutputStream buffer        = new ByteArrayOutputStream();
+
+    /**
+     * Stream for the compressed body. Null if the response is not being compressed.
+     */
+    private GZIPOutputStream            compressed;
+
+    /**
+     * Counts the compressed body bytes.
+     */
+    private CountingOutputStream        compressedCount;
+
+    /**
+     * Time spent compressing the body, in nanoseconds.
+     */
+    private long                        compressionNanos;
+
+    /**
+     * Content length set for the response. Negative if it wasn't set.
+     */
+    private long                        contentLength = -1;
+
+    /**
+     * Flags if the response was finished.
+     */
+    private boolean                     finished;
+
+    /**
+     * Receives the compressed responses.
+     */
+    private final CompressionListener   listener;
+
+    /**
+     * Media types which can be compressed.
+     */
+    private final Collection<MediaType> mediaTypes;
+
+    /**
+     * Minimum body size to compress.
+     */
+    private final int                   minSize;
+
+    /**
+     * Body bytes received.
+     */
+    private long                        originalBytes;
+
+    /**
+     * Body output stream.
+     */
+    private final BodyOutputStream      outputStream  = new BodyOutputStream();
+
+    /**
+     * Output stream of the wrapped response. Null until it is decided if the response is compressed.
+     */
+    private ServletOutputStream         rawOutput;
+
+    /**
+     * Stream where the body is written once it is decided if the response is compressed. Null until then.
+     */
+    private OutputStream                target;
+
+    /**
+     * Body writer. Null until it is requested.
+     */
+    private PrintWriter                 writer;
+
+    /**
+     * Constructs a wrapper for the received response.
+     *
+     * @param response
+     *            response to wrap
+     * @param minBytes
+     *            minimum body size to compress
+     * @param compressedTypes
+     *            media types which can be compressed
+     * @param compressionListener
+     *            receives the compressed responses
+     */
+    CompressingResponseWrapper(final HttpServletResponse response, final int minBytes,
+            final Collection<MediaType> compressedTypes, final CompressionListener compressionListener) {
+        super(response);
+
+        minSize = minBytes;
+        mediaTypes = compressedTypes;
+        listener = compressionListener;
+    }
+
+    @Override
+    public final void addHeader(final String name, final String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public final void addIntHeader(final String name, final int value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public final void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        // The response is committed, so the buffered body has to be sent
+        if (target == null) {
+            open(isCompressible() && ((contentLength < 0) || (contentLength >= minSize)));
+        }
+        outputStream.flush();
+        super.flushBuffer();
+    }
+
+    @Override
+    public final ServletOutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public final PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+        }
+
+        return writer;
+    }
+
+    @Override
+    public final void reset() {
+        super.reset();
+        if (target == null) {
+            buffer.reset();
+            contentLength = -1;
+        }
+    }
+
+    @Override
+    public final void resetBuffer() {
+        super.resetBuffer();
+        if (target == null) {
+            buffer.reset();
+        }
+    }
+
+    @Override
+    public final void sendError(final int sc) throws IOException {
+        // The error body is written by the container
+        finished = true;
+        super.sendError(sc);
+    }
+
+    @Override
+    public final void sendError(final int sc, final String msg) throws IOException {
+        // The error body is written by the container
+        finished = true;
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public final void sendRedirect(final String location) throws IOException {
+        finished = true;
+        super.sendRedirect(location);
+    }
+
+    @Override
+    public final void setContentLength(final int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public final void setContentLengthLong(final long len) {
+        if (target == null) {
+            contentLength = len;
+        } else if (compressed == null) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public final void setHeader(final String name, final String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public final void setIntHeader(final String name, final int value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    /**
+     * Writes what is left of the body. If the response is compressed, the compressed stream is finished, and the
+     * compression is notified to the listener.
+     *
+     * @throws IOException
+     *             if the body can't be written
+     */
+    final void finish() throws IOException {
+        final long start;
+
+        if (!finished) {
+            finished = true;
+            if (writer != null) {
+                writer.flush();
+            }
+            if (target == null) {
+                // Too small to compress
+                if (contentLength < 0) {
+                    contentLength = buffer.size();
+                }
+                open(false);
+            }
+            if (compressed != null) {
+                start = System.nanoTime();
+                compressed.finish();
+                compressionNanos += System.nanoTime() - start;
+                listener.onCompressed(originalBytes, compressedCount.getCount(), compressionNanos);
+            }
+        }
+    }
+
+    private final boolean isCompressible() {
+        final String    contentType;
+        final MediaType type;
+        boolean         compressible;
+
+        contentType = getContentType();
+        if ((contentType == null) || (getHeader(HttpHeaders.CONTENT_ENCODING) != null)
+                || (getStatus() == HttpStatus.PARTIAL_CONTENT.value())) {
+            compressible = false;
+        } else {
+            try {
+                type = MediaType.parseMediaType(contentType);
+                compressible = mediaTypes.stream()
+                    .anyMatch(mediaType -> mediaType.includes(type));
+            } catch (final InvalidMediaTypeException e) {
+                compressible = false;
+            }
+        }
+
+        return compressible;
+    }
+
+    private final void open(final boolean compress) throws IOException {
+        final long start;
+
+        rawOutput = super.getOutputStream();
+        if (compress) {
+            super.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+            start = System.nanoTime();
+            compressedCount = new CountingOutputStream(rawOutput);
+            // Sync flush, so streamed responses can still be flushed
+            compressed = new GZIPOutputStream(compressedCount, BUFFER_SIZE, true);
+            compressionNanos += System.nanoTime() - start;
+
+            target = compressed;
+        } else {
+            if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+            target = rawOutput;
+        }
+
+        write(buffer.toByteArray(), 0, buffer.size());
+        buffer.reset();
+    }
+
+    private final void write(final byte[] bytes, final int offset, final int length) throws IOException {
+        final long start;
+
+        if (compressed == null) {
+            target.write(bytes, offset, length);
+        } else {
+            start = System.nanoTime();
+            compressed.write(bytes, offset, length);
+            compressionNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Output stream for the body. It buffers the body until it is decided if the response is compressed.
+     *
+     * @author Bernardo Mart&iacute;nez Garrido
+     *
+     */
+    private final class BodyOutputStream extends ServletOutputStream {
+
+        private BodyOutputStream() {
+            super();
+        }
+
+        @Override
+        public final void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public final void flush() throws IOException {
+            final long start;
+
+            // Compressible bodies wait for the minimum size, the rest are sent as they are flushed
+            if ((target == null) && !isCompressible()) {
+                open(false);
+            }
+
+            if (compressed != null) {
+                start = System.nanoTime();
+                compressed.flush();
+                compressionNanos += System.nanoTime() - start;
+            } else if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public final boolean isReady() {
+            // The buffer is always ready
+            return (rawOutput == null) || rawOutput.isReady();
+        }
+
+        @Override
+        public final void setWriteListener(final WriteListener writeListener) {
+            try {
+                getResponse().getOutputStream()
+                    .setWriteListener(writeListener);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public final void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            originalBytes += length;
+            if (target == null) {
+                buffer.write(bytes, offset, length);
+                if (buffer.size() >= minSize) {
+                    open(isCompressible());
+                }
+            } else {
+                CompressingResponseWrapper.this.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public final void write(final int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+    }
+
+    /**
+     * Output stream which counts the bytes written through it.
+     *
+     * @author Bernardo Mart&iacute;nez Garrido
+     *
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        /**
+         * Bytes written.
+         */
+        private long count;
+
+        private CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public final void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+
+        @Override
+        public final void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        private final long getCount() {
+            return count;
+        }
+
+    }
+
+}
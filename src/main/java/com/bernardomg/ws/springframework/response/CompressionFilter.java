@@ -0,0 +1,186 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Compresses the responses with gzip, when the client accepts it. Only responses at least as big as the minimum size,
+ * and with one of the compressed media types, are compressed, as compressing small or already compressed bodies
+ * costs more than it saves.
+ * <p>
+ * This doesn't depend on the servlet container, so it works the same on all of them. Asynchronous responses, such as
+ * streamed ones, are finished on their last dispatch.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class CompressionFilter extends OncePerRequestFilter {
+
+    /**
+     * Default compressed media types. JSON, YAML, text, CSV and Excel files. Event streams are not included, as their
+     * events are too small to gain from it.
+     */
+    public static final List<MediaType> DEFAULT_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON,
+        new MediaType("application", "*+json"), MediaType.APPLICATION_YAML,
+        new MediaType("application", "vnd.ms-excel"), MediaType.TEXT_PLAIN, new MediaType("text", "csv"));
+
+    /**
+     * Default minimum body size to compress.
+     */
+    public static final int             DEFAULT_MIN_SIZE    = 2048;
+
+    /**
+     * Separates the accepted encodings.
+     */
+    private static final Pattern        ENCODING_SEPARATOR  = Pattern.compile(",");
+
+    /**
+     * Encoding for compressed responses.
+     */
+    private static final String         GZIP                = "gzip";
+
+    /**
+     * Quality values which reject an encoding.
+     */
+    private static final Pattern        REJECTED_QUALITY    = Pattern.compile("q=0(\\.0{0,3})?");
+
+    /**
+     * Receives the compressed responses.
+     */
+    private final CompressionListener   listener;
+
+    /**
+     * Media types which can be compressed.
+     */
+    private final Collection<MediaType> mediaTypes;
+
+    /**
+     * Minimum body size to compress.
+     */
+    private final int                   minSize;
+
+    /**
+     * Default constructor. Uses the default minimum size and media types.
+     */
+    public CompressionFilter() {
+        this(DEFAULT_MIN_SIZE, DEFAULT_MEDIA_TYPES, CompressionListener.NO_OP);
+    }
+
+    /**
+     * Constructs a filter with the received minimum size and media types.
+     *
+     * @param minBytes
+     *            minimum body size to compress
+     * @param compressedTypes
+     *            media types which can be compressed
+     * @param compressionListener
+     *            receives the compressed responses
+     */
+    public CompressionFilter(final int minBytes, final Collection<MediaType> compressedTypes,
+            final CompressionListener compressionListener) {
+        super();
+
+        minSize = minBytes;
+        mediaTypes = List.copyOf(compressedTypes);
+        listener = compressionListener;
+    }
+
+    @Override
+    protected final void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        final HttpServletResponse        responseToUse;
+        final CompressingResponseWrapper wrapper;
+
+        // On async dispatches the response is already wrapped
+        if (!isAsyncDispatch(request) && isCompressible(request)) {
+            responseToUse = new CompressingResponseWrapper(response, minSize, mediaTypes, listener);
+        } else {
+            responseToUse = response;
+        }
+
+        filterChain.doFilter(request, responseToUse);
+
+        // Async responses are finished on the last dispatch
+        if (!isAsyncStarted(request)) {
+            wrapper = WebUtils.getNativeResponse(responseToUse, CompressingResponseWrapper.class);
+            if (wrapper != null) {
+                wrapper.finish();
+            }
+        }
+    }
+
+    @Override
+    protected final boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private final boolean acceptsGzip(final HttpServletRequest request) {
+        return Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING))
+            .stream()
+            .flatMap(ENCODING_SEPARATOR::splitAsStream)
+            .map(String::trim)
+            .anyMatch(this::isGzip);
+    }
+
+    private final boolean isCompressible(final HttpServletRequest request) {
+        // Partial responses can't be compressed, and head responses have no body
+        return !HttpMethod.HEAD.matches(request.getMethod()) && (request.getHeader(HttpHeaders.RANGE) == null)
+                && acceptsGzip(request);
+    }
+
+    private final boolean isGzip(final String encoding) {
+        final String[] parts;
+        boolean        accepted;
+        int            index;
+
+        parts = encoding.split(";");
+        accepted = GZIP.equalsIgnoreCase(parts[0].trim()) || "*".equals(parts[0].trim());
+        index = 1;
+        while (accepted && (index < parts.length)) {
+            accepted = !REJECTED_QUALITY.matcher(parts[index].trim())
+                .matches();
+            index++;
+        }
+
+        return accepted;
+    }
+
+}
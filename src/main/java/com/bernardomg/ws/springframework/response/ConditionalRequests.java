@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Conditional requests support. Shared by the components which answer {@code If-None-Match} headers.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class ConditionalRequests {
+
+    /**
+     * Methods which support conditional requests.
+     */
+    private static final Set<HttpMethod> SAFE_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+
+    /**
+     * Sets the ETag into the response, and checks if it matches the request {@code If-None-Match} header. If it does,
+     * the response is finished with a not modified status.
+     *
+     * @param etag
+     *            response ETag
+     * @param request
+     *            request being answered
+     * @param response
+     *            response for the request
+     * @return {@code true} if the client copy is up to date, {@code false} otherwise
+     */
+    public static final boolean checkNotModified(final String etag, final ServerHttpRequest request,
+            final ServerHttpResponse response) {
+        final boolean notModified;
+
+        response.getHeaders()
+            .setETag(etag);
+
+        // Weak comparison, as required for If-None-Match
+        notModified = request.getHeaders()
+            .getIfNoneMatch()
+            .stream()
+            .map(t -> t.replaceFirst("^W/", ""))
+            .anyMatch(t -> "*".equals(t) || etag.equals(t));
+        if (notModified) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            // Nothing else will be written, so the headers are sent now
+            try {
+                response.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return notModified;
+    }
+
+    /**
+     * Checks if the request method supports conditional requests.
+     *
+     * @param request
+     *            request to check
+     * @return {@code true} if the request can be conditional, {@code false} otherwise
+     */
+    public static final boolean isSafe(final ServerHttpRequest request) {
+        return SAFE_METHODS.contains(request.getMethod());
+    }
+
+    /**
+     * Returns a strong ETag for the content.
+     *
+     * @param content
+     *            content to tag
+     * @return ETag for the content
+     */
+    public static final String toETag(final byte[] content) {
+        return "\"0" + DigestUtils.md5DigestAsHex(content) + "\"";
+    }
+
+    private ConditionalRequests() {
+        super();
+    }
+
+}
@@ -0,0 +1,138 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.bernardomg.ws.response.domain.model.Response;
+import com.bernardomg.ws.response.domain.model.Versioned;
+import com.bernardomg.ws.springframework.response.BodySerializer.SerializedBody;
+
+/**
+ * Adds an {@code ETag} to the responses of the endpoints annotated with {@link ETag}, and answers matching
+ * {@code If-None-Match} headers with a not modified status.
+ * <p>
+ * If the response content is {@link Versioned}, the ETag is taken from its version, and the response is compared
+ * before serializing it. Otherwise the response is serialized with the selected message converter, and the ETag is a
+ * hash of the serialized body. This body is then written as it is, so it is serialized only once.
+ * <p>
+ * Only {@link Response} bodies are supported, any other body is written as usual.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+@RestControllerAdvice
+public class ETagResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * Serializes the bodies.
+     */
+    private final BodySerializer serializer;
+
+    /**
+     * Default constructor. The bodies are serialized to JSON.
+     */
+    public ETagResponseAdvice() {
+        this(List.of(new MappingJackson2HttpMessageConverter()));
+    }
+
+    /**
+     * Constructs an advice which serializes the bodies with the message converters. These should be the same
+     * converters used for the responses.
+     *
+     * @param messageConverters
+     *            message converters to serialize the bodies
+     */
+    public ETagResponseAdvice(final Collection<HttpMessageConverter<?>> messageConverters) {
+        super();
+
+        serializer = new BodySerializer(messageConverters);
+    }
+
+    @Override
+    public final Object beforeBodyWrite(final Object body, final MethodParameter returnType,
+            final MediaType selectedContentType, final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            final ServerHttpRequest request, final ServerHttpResponse response) {
+        final Object                   value;
+        final String                   version;
+        final Optional<SerializedBody> serialized;
+        final Object                   result;
+
+        // Projected bodies are tagged as any other, the projection is part of the URL
+        if (body instanceof final ProjectedBody projected) {
+            value = projected.value();
+        } else {
+            value = body;
+        }
+
+        if (!(value instanceof final Response<?> responseBody) || !ConditionalRequests.isSafe(request)) {
+            // Only conditional GETs are supported
+            result = body;
+        } else if (responseBody.content() instanceof final Versioned versioned) {
+            // The ETag depends on the media type too, as each one is a different representation
+            version = versioned.getVersion() + ";" + selectedContentType;
+            if (ConditionalRequests.checkNotModified(
+                ConditionalRequests.toETag(version.getBytes(StandardCharsets.UTF_8)), request, response)) {
+                result = null;
+            } else {
+                result = body;
+            }
+        } else {
+            serialized = serializer.serialize(body, selectedContentType, selectedConverterType);
+            if (serialized.isEmpty()) {
+                // Unknown converter, can't be serialized in advance
+                result = body;
+            } else {
+                if (!ConditionalRequests.checkNotModified(serialized.get()
+                    .etag(), request, response)) {
+                    serialized.get()
+                        .write(response);
+                }
+                // Already written
+                result = null;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public final boolean supports(final MethodParameter returnType,
+            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ETag.class);
+    }
+
+}
@@ -32,29 +32,66 @@
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+/**
+ * Factory methods for Excel file responses.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
 public final class ExcelResponses {
 
     private static final String EXCEL_TYPE = "vnd.ms-excel";
 
     public static final ResponseEntity<InputStreamResource> response(final ByteArrayOutputStream stream,
             final String filename) throws IOException {
-        final byte[]      bytes;
-        final HttpHeaders headers;
-        final String      attachmentHeader;
+        final byte[] bytes;
 
         bytes = stream.toByteArray();
 
+        return ResponseEntity.ok()
+            .headers(attachmentHeaders(filename))
+            .contentLength(bytes.length)
+            .contentType(new MediaType("application", EXCEL_TYPE))
+            .body(new InputStreamResource(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Returns a response which writes the Excel file directly into the response output stream. The body is written
+     * asynchronously, once the controller has returned, so the workbook rows can be generated and sent one by one
+     * instead of being buffered in memory.
+     * <p>
+     * As the file size is not known beforehand, no content length is set, and the file is sent with chunked transfer.
+     *
+     * @param body
+     *            writer for the Excel file
+     * @param filename
+     *            name for the attached file
+     * @return response streaming the Excel file
+     */
+    public static final ResponseEntity<StreamingResponseBody> response(final StreamingResponseBody body,
+            final String filename) {
+        return ResponseEntity.ok()
+            .headers(attachmentHeaders(filename))
+            .contentType(new MediaType("application", EXCEL_TYPE))
+            .body(body);
+    }
+
+    private static final HttpHeaders attachmentHeaders(final String filename) {
+        final HttpHeaders headers;
+        final String      attachmentHeader;
+
         // Set headers for the response
         headers = new HttpHeaders();
         attachmentHeader = String.format("attachment; filename=%s", filename);
         headers.add(HttpHeaders.CONTENT_DISPOSITION, attachmentHeader);
 
-        return ResponseEntity.ok()
-            .headers(headers)
-            .contentLength(bytes.length)
-            .contentType(new MediaType("application", EXCEL_TYPE))
-            .body(new InputStreamResource(new ByteArrayInputStream(bytes)));
+        return headers;
+    }
+
+    private ExcelResponses() {
+        super();
     }
 
 }
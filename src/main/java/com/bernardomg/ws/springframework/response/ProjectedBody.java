@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import com.bernardomg.ws.request.domain.model.Projection;
+import com.bernardomg.ws.response.domain.model.Response;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * Response body to write with a projection. The body is written by a copy of the mapper writing the response, which
+ * has the {@link ProjectedPropertyWriter property writers} skipping the fields not included.
+ * <p>
+ * If the response isn't written by a mapper, the projection can't be applied, and the body is written as usual.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param value
+ *            body to write
+ * @param projection
+ *            projection to apply
+ * @param writers
+ *            writers for the projected bodies
+ */
+record ProjectedBody(Object value, Projection projection, ProjectedWriters writers) implements JsonSerializable {
+
+    @Override
+    public final void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        final Optional<ObjectWriter> writer;
+
+        writer = writers.get(gen.getCodec());
+        if (writer.isEmpty()) {
+            serializers.defaultSerializeValue(value, gen);
+        } else if ((value instanceof final Response<?> response) && (response.content() != null)) {
+            // The response may have its own serializer, so the content is projected directly
+            gen.writeStartObject(response);
+            gen.writeFieldName("content");
+            write(writer.get(), gen, response.content());
+            gen.writeEndObject();
+        } else {
+            write(writer.get(), gen, value);
+        }
+    }
+
+    @Override
+    public final void serializeWithType(final JsonGenerator gen, final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    private final void write(final ObjectWriter writer, final JsonGenerator gen, final Object projected)
+            throws IOException {
+        // The projection is kept as a per call attribute, for the property writers
+        writer.withAttribute(Projection.class, projection)
+            .writeValue(gen, projected);
+    }
+
+}
@@ -0,0 +1,137 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.bernardomg.ws.request.domain.model.Projection;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Bean property writer which skips the property if it is not included in the current {@link Projection}. While the
+ * property is written, its own projection becomes the current one, so nested beans are filtered too.
+ * <p>
+ * The projection is taken from the serialization per call attributes. When there is none, the property is always
+ * written. The property is written by the original writer, so writers customized by other modules keep working.
+ * <p>
+ * These writers are only registered in the mappers used for {@link ProjectedBody projected bodies}, so the rest of
+ * the serialization doesn't pay for them.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class ProjectedPropertyWriter extends BeanPropertyWriter {
+
+    /**
+     * Replaces the property writers of all the beans with projected ones.
+     */
+    static final class Modifier extends BeanSerializerModifier {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public final List<BeanPropertyWriter> changeProperties(final SerializationConfig config,
+                final BeanDescription beanDesc, final List<BeanPropertyWriter> beanProperties) {
+            final List<BeanPropertyWriter> projected;
+
+            projected = new ArrayList<>(beanProperties.size());
+            for (final BeanPropertyWriter property : beanProperties) {
+                projected.add(new ProjectedPropertyWriter(property));
+            }
+
+            return projected;
+        }
+
+    }
+
+    private static final long        serialVersionUID = 1L;
+
+    /**
+     * Original writer for the property.
+     */
+    private final BeanPropertyWriter delegate;
+
+    public ProjectedPropertyWriter(final BeanPropertyWriter base) {
+        super(base);
+
+        delegate = base;
+    }
+
+    @Override
+    public final void assignNullSerializer(final JsonSerializer<Object> nullSer) {
+        delegate.assignNullSerializer(nullSer);
+    }
+
+    @Override
+    public final void assignSerializer(final JsonSerializer<Object> ser) {
+        delegate.assignSerializer(ser);
+    }
+
+    @Override
+    public final void assignTypeSerializer(final TypeSerializer typeSer) {
+        delegate.assignTypeSerializer(typeSer);
+    }
+
+    @Override
+    public final ProjectedPropertyWriter rename(final NameTransformer transformer) {
+        return new ProjectedPropertyWriter(delegate.rename(transformer));
+    }
+
+    @Override
+    public final void serializeAsElement(final Object bean, final JsonGenerator gen, final SerializerProvider prov)
+            throws Exception {
+        delegate.serializeAsElement(bean, gen, prov);
+    }
+
+    @Override
+    public final void serializeAsField(final Object bean, final JsonGenerator gen, final SerializerProvider prov)
+            throws Exception {
+        final Object projection;
+
+        projection = prov.getAttribute(Projection.class);
+        if (!(projection instanceof final Projection current)) {
+            delegate.serializeAsField(bean, gen, prov);
+        } else if (current.includes(getName())) {
+            prov.setAttribute(Projection.class, current.get(getName()));
+            try {
+                delegate.serializeAsField(bean, gen, prov);
+            } finally {
+                prov.setAttribute(Projection.class, current);
+            }
+        } else {
+            delegate.serializeAsOmittedField(bean, gen, prov);
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Writers for the {@link ProjectedBody projected bodies}. Each one is built from a copy of the mapper writing the
+ * response, with the {@link ProjectedPropertyWriter projected property writers} added. So the projection keeps the
+ * mapper settings, while the original mapper, used for everything else, is not changed.
+ * <p>
+ * The mappers are copied once, and their writers are kept for the next responses.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class ProjectedWriters {
+
+    /**
+     * Projected writers, by the mapper they were copied from.
+     */
+    private final Map<ObjectMapper, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    ProjectedWriters() {
+        super();
+    }
+
+    /**
+     * Returns the projected writer for the received codec. If the codec is not a mapper, there is no projected
+     * writer.
+     *
+     * @param codec
+     *            codec writing the response
+     * @return the projected writer for the codec, if it is a mapper
+     */
+    final Optional<ObjectWriter> get(final ObjectCodec codec) {
+        final Optional<ObjectWriter> writer;
+
+        if (codec instanceof final ObjectMapper mapper) {
+            writer = Optional.of(writers.computeIfAbsent(mapper, this::toProjected));
+        } else {
+            writer = Optional.empty();
+        }
+
+        return writer;
+    }
+
+    private final ObjectWriter toProjected(final ObjectMapper mapper) {
+        final SimpleModule module;
+
+        module = new SimpleModule("ProjectionModule", Version.unknownVersion());
+        module.setSerializerModifier(new ProjectedPropertyWriter.Modifier());
+
+        // The body is part of the response being written, which is flushed by its own writer
+        return mapper.copy()
+            .registerModule(module)
+            .writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+}
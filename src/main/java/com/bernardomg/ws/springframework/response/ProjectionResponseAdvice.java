@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.bernardomg.ws.request.domain.model.Projection;
+import com.bernardomg.ws.response.domain.model.ErrorResponse;
+import com.bernardomg.ws.response.domain.model.FailureResponse;
+import com.bernardomg.ws.response.domain.model.Response;
+import com.bernardomg.ws.springframework.request.ProjectionArgumentResolver;
+
+/**
+ * Writes the responses with the {@link Projection} resolved for the request, so only the requested fields are
+ * written. The projection applies to the response content, so for a {@link Response} or a page it filters the fields
+ * of the data inside it.
+ * <p>
+ * The fields are skipped while serializing, by a copy of the response mapper which is only used for the projected
+ * bodies. The rest of the serialization is not affected. Error responses are never filtered.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @see ProjectionArgumentResolver
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ProjectionResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * Flags the records wrapping their data in a {@code content} field, such as pages.
+     */
+    private static final ClassValue<Boolean> CONTENT_WRAPPERS = new ClassValue<>() {
+
+        @Override
+        protected final Boolean computeValue(final Class<?> type) {
+            return type.isRecord() && Arrays.stream(type.getRecordComponents())
+                .anyMatch(c -> "content".equals(c.getName()));
+        }
+
+    };
+
+    /**
+     * Writers for the projected bodies.
+     */
+    private final ProjectedWriters           writers          = new ProjectedWriters();
+
+    /**
+     * Default constructor.
+     */
+    public ProjectionResponseAdvice() {
+        super();
+    }
+
+    @Override
+    public final Object beforeBodyWrite(final Object body, final MethodParameter returnType,
+            final MediaType selectedContentType, final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            final ServerHttpRequest request, final ServerHttpResponse response) {
+        final Object result;
+        final Object requested;
+
+        if (request instanceof final ServletServerHttpRequest servletRequest) {
+            requested = servletRequest.getServletRequest()
+                .getAttribute(ProjectionArgumentResolver.PROJECTION_ATTRIBUTE);
+        } else {
+            requested = null;
+        }
+
+        if ((body == null) || (body instanceof ErrorResponse) || (body instanceof FailureResponse)
+                || !(requested instanceof final Projection projection) || projection.isAll()) {
+            result = body;
+        } else if ((body instanceof Response<?>) || !CONTENT_WRAPPERS.get(body.getClass())) {
+            // The projected body applies the projection to the response content
+            result = new ProjectedBody(body, projection, writers);
+        } else {
+            // Only the content is projected, the rest of fields are kept
+            result = new ProjectedBody(body, new Projection(false, Map.of("content", projection)), writers);
+        }
+
+        return result;
+    }
+
+    @Override
+    public final boolean supports(final MethodParameter returnType,
+            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+}
@@ -0,0 +1,96 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Factory methods for Excel file responses on reactive applications.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ReactiveExcelResponses {
+
+    private static final String EXCEL_TYPE = "vnd.ms-excel";
+
+    /**
+     * Returns a response which streams the Excel file. The writer receives an output stream, and each chunk written
+     * into it is sent as soon as it is ready, so the workbook rows can be generated and sent one by one instead of
+     * being buffered in memory.
+     * <p>
+     * Writing the file blocks, so the writer runs on the bounded elastic scheduler, and not on the event loop. It
+     * can't throw checked exceptions, these should be wrapped, for example into an
+     * {@link java.io.UncheckedIOException}. The output stream is closed once the writer returns.
+     * <p>
+     * As the file size is not known beforehand, no content length is set, and the file is sent with chunked transfer.
+     *
+     * @param writer
+     *            writer for the Excel file
+     * @param filename
+     *            name for the attached file
+     * @return response streaming the Excel file
+     */
+    public static final ResponseEntity<Flux<DataBuffer>> response(final Consumer<OutputStream> writer,
+            final String filename) {
+        final Flux<DataBuffer> body;
+
+        body = Flux.from(DataBufferUtils.outputStreamPublisher(writer, DefaultDataBufferFactory.sharedInstance,
+            Schedulers.boundedElastic()::schedule));
+
+        return ResponseEntity.ok()
+            .headers(attachmentHeaders(filename))
+            .contentType(new MediaType("application", EXCEL_TYPE))
+            .body(body);
+    }
+
+    private static final HttpHeaders attachmentHeaders(final String filename) {
+        final HttpHeaders headers;
+        final String      attachmentHeader;
+
+        // Set headers for the response
+        headers = new HttpHeaders();
+        attachmentHeader = String.format("attachment; filename=%s", filename);
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, attachmentHeader);
+
+        return headers;
+    }
+
+    private ReactiveExcelResponses() {
+        super();
+    }
+
+}
@@ -0,0 +1,222 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.ws.springframework.response.BodySerializer.SerializedBody;
+
+/**
+ * Serialized responses cached for the endpoints annotated with {@link CachedResponse}. Each endpoint has its own
+ * cache, identified by its name.
+ * <p>
+ * The services changing the data should evict the caches which depend on it, otherwise the cached responses are kept
+ * until they expire.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ResponseCache {
+
+    /**
+     * Cache key.
+     *
+     * @param path
+     *            request path
+     * @param pagination
+     *            normalized pagination
+     * @param sorting
+     *            normalized sorting
+     * @param params
+     *            rest of query params
+     * @param headers
+     *            values for the headers which change the response
+     */
+    record Key(String path, Pagination pagination, Sorting sorting, Map<String, List<String>> params,
+            List<String> headers) {
+
+    }
+
+    /**
+     * Cached response.
+     *
+     * @param body
+     *            serialized body
+     * @param expiresAt
+     *            expiration time, in nanoseconds
+     */
+    private record Entry(SerializedBody body, long expiresAt) {
+
+    }
+
+    /**
+     * Cache for a single endpoint. Bounded, keeping the least recently used responses.
+     */
+    private static final class Region {
+
+        private final Map<Key, Entry> entries;
+
+        private final long            ttlNanos;
+
+        public Region(final int maxEntries, final long ttl) {
+            super();
+
+            ttlNanos = ttl;
+            entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected final boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+
+            };
+        }
+
+        public synchronized void clear() {
+            entries.clear();
+        }
+
+        public synchronized Optional<SerializedBody> get(final Key key) {
+            final Entry                    entry;
+            final Optional<SerializedBody> body;
+
+            entry = entries.get(key);
+            if (entry == null) {
+                body = Optional.empty();
+            } else if (entry.expiresAt() - System.nanoTime() <= 0) {
+                entries.remove(key);
+                body = Optional.empty();
+            } else {
+                body = Optional.of(entry.body());
+            }
+
+            return body;
+        }
+
+        public synchronized void put(final Key key, final SerializedBody body) {
+            entries.put(key, new Entry(body, System.nanoTime() + ttlNanos));
+        }
+
+    }
+
+    /**
+     * Responses taken from the cache.
+     */
+    private final LongAdder           hits    = new LongAdder();
+
+    /**
+     * Responses which weren't in the cache.
+     */
+    private final LongAdder           misses  = new LongAdder();
+
+    /**
+     * Cache for each endpoint, by name.
+     */
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public ResponseCache() {
+        super();
+    }
+
+    /**
+     * Removes all the responses in a cache.
+     *
+     * @param name
+     *            name of the cache to evict
+     */
+    public final void evict(final String name) {
+        final Region region;
+
+        region = regions.get(name);
+        if (region != null) {
+            region.clear();
+        }
+    }
+
+    /**
+     * Removes all the cached responses.
+     */
+    public final void evictAll() {
+        regions.values()
+            .forEach(Region::clear);
+    }
+
+    /**
+     * Returns the number of responses taken from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public final long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of responses which weren't in the cache.
+     *
+     * @return the number of cache misses
+     */
+    public final long getMisses() {
+        return misses.sum();
+    }
+
+    final Optional<SerializedBody> get(final String name, final Key key) {
+        final Region                   region;
+        final Optional<SerializedBody> body;
+
+        region = regions.get(name);
+        if (region == null) {
+            body = Optional.empty();
+        } else {
+            body = region.get(key);
+        }
+
+        if (body.isPresent()) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+
+        return body;
+    }
+
+    final void put(final String name, final CachedResponse config, final Key key, final SerializedBody body) {
+        regions.computeIfAbsent(name, n -> new Region(config.maxEntries(), config.timeUnit()
+            .toNanos(config.ttl())))
+            .put(key, body);
+    }
+
+}
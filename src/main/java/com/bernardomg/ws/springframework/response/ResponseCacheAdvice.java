@@ -0,0 +1,131 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.bernardomg.ws.springframework.response.BodySerializer.SerializedBody;
+import com.bernardomg.ws.springframework.response.ResponseCacheInterceptor.PendingResponse;
+
+/**
+ * Stores the responses marked by {@link ResponseCacheInterceptor} in the {@link ResponseCache}. The body is serialized
+ * with the selected message converter, and then written as it is, so it is serialized only once.
+ * <p>
+ * Only successful responses are stored. It runs before any other advice except {@link ProjectionResponseAdvice}, so
+ * the projected body is cached, and if the endpoint is annotated with {@link ETag} the tag is generated here, from the
+ * same bytes which are cached.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    /**
+     * Serializes the bodies.
+     */
+    private final BodySerializer serializer;
+
+    /**
+     * Default constructor. The bodies are serialized to JSON.
+     */
+    public ResponseCacheAdvice() {
+        this(List.of(new MappingJackson2HttpMessageConverter()));
+    }
+
+    /**
+     * Constructs an advice which serializes the bodies with the message converters. These should be the same
+     * converters used for the responses.
+     *
+     * @param messageConverters
+     *            message converters to serialize the bodies
+     */
+    public ResponseCacheAdvice(final Collection<HttpMessageConverter<?>> messageConverters) {
+        super();
+
+        serializer = new BodySerializer(messageConverters);
+    }
+
+    @Override
+    public final Object beforeBodyWrite(final Object body, final MethodParameter returnType,
+            final MediaType selectedContentType, final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            final ServerHttpRequest request, final ServerHttpResponse response) {
+        final Optional<SerializedBody> serialized;
+        final Object                   result;
+
+        if ((body == null) || !(request instanceof final ServletServerHttpRequest servletRequest)
+                || !(response instanceof final ServletServerHttpResponse servletResponse)
+                || !(servletRequest.getServletRequest()
+                    .getAttribute(ResponseCacheInterceptor.PENDING_ATTRIBUTE) instanceof final PendingResponse pending)
+                || (servletResponse.getServletResponse()
+                    .getStatus() != HttpStatus.OK.value())) {
+            // Not marked for caching
+            result = body;
+        } else {
+            servletRequest.getServletRequest()
+                .removeAttribute(ResponseCacheInterceptor.PENDING_ATTRIBUTE);
+            serialized = serializer.serialize(body, selectedContentType, selectedConverterType);
+            if (serialized.isEmpty()) {
+                // Unknown converter, can't be cached
+                result = body;
+            } else {
+                pending.store(serialized.get());
+                if (!returnType.hasMethodAnnotation(ETag.class)
+                        || !ConditionalRequests.checkNotModified(serialized.get()
+                            .etag(), request, response)) {
+                    serialized.get()
+                        .write(response);
+                }
+                // Already written
+                result = null;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public final boolean supports(final MethodParameter returnType,
+            final Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CachedResponse.class);
+    }
+
+}
@@ -0,0 +1,209 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.ws.springframework.request.RequestNormalizer;
+import com.bernardomg.ws.springframework.response.BodySerializer.SerializedBody;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers the requests to endpoints annotated with {@link CachedResponse} from the {@link ResponseCache}. When the
+ * response is cached the endpoint is not called, otherwise the request is marked so {@link ResponseCacheAdvice} stores
+ * the response.
+ * <p>
+ * Only GET requests are cached.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class ResponseCacheInterceptor implements HandlerInterceptor {
+
+    /**
+     * Response to store in the cache, once the endpoint returns it.
+     *
+     * @param cache
+     *            cache where it is stored
+     * @param name
+     *            cache name
+     * @param config
+     *            cache configuration
+     * @param key
+     *            response key
+     */
+    record PendingResponse(ResponseCache cache, String name, CachedResponse config, ResponseCache.Key key) {
+
+        /**
+         * Stores the response body.
+         *
+         * @param body
+         *            serialized body to store
+         */
+        public final void store(final SerializedBody body) {
+            cache.put(name, config, key, body);
+        }
+
+    }
+
+    /**
+     * Request attribute for responses which should be stored in the cache.
+     */
+    static final String              PENDING_ATTRIBUTE = ResponseCacheInterceptor.class.getName() + ".PENDING";
+
+    /**
+     * Params normalized into the pagination and sorting.
+     */
+    private static final Set<String> NORMALIZED_PARAMS = Set.of("page", "size", "sort");
+
+    /**
+     * Cached responses.
+     */
+    private final ResponseCache      cache;
+
+    /**
+     * Constructs an interceptor with the specified cache.
+     *
+     * @param responseCache
+     *            cached responses
+     */
+    public ResponseCacheInterceptor(final ResponseCache responseCache) {
+        super();
+
+        cache = responseCache;
+    }
+
+    @Override
+    public final boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+            final Object handler) {
+        final CachedResponse              config;
+        final String                      name;
+        final Optional<ResponseCache.Key> key;
+        final Optional<SerializedBody>    cached;
+        final boolean                     proceed;
+
+        if ((handler instanceof final HandlerMethod handlerMethod)
+                && handlerMethod.hasMethodAnnotation(CachedResponse.class)
+                && HttpMethod.GET.matches(request.getMethod())) {
+            config = handlerMethod.getMethodAnnotation(CachedResponse.class);
+            key = getKey(request, config);
+            if (key.isEmpty()) {
+                // Malformed pagination, left to the argument resolver
+                proceed = true;
+            } else {
+                name = getName(handlerMethod, config);
+                cached = cache.get(name, key.get());
+                if (cached.isPresent()) {
+                    write(cached.get(), handlerMethod.hasMethodAnnotation(ETag.class), request, response);
+                    proceed = false;
+                } else {
+                    request.setAttribute(PENDING_ATTRIBUTE, new PendingResponse(cache, name, config, key.get()));
+                    proceed = true;
+                }
+            }
+        } else {
+            proceed = true;
+        }
+
+        return proceed;
+    }
+
+    private final Optional<ResponseCache.Key> getKey(final HttpServletRequest request, final CachedResponse config) {
+        final Map<String, List<String>> params;
+        final List<String>              headers;
+        final Sorting                   sorting;
+
+        params = new TreeMap<>();
+        request.getParameterMap()
+            .forEach((param, values) -> {
+                if (!NORMALIZED_PARAMS.contains(param)) {
+                    params.put(param, List.of(values));
+                }
+            });
+
+        // The accept header selects the representation, so it is always part of the key
+        headers = Stream.concat(Arrays.stream(config.headers()), Stream.of(HttpHeaders.ACCEPT))
+            .map(request::getHeader)
+            .map(value -> Objects.requireNonNullElse(value, ""))
+            .toList();
+
+        sorting = RequestNormalizer.sorting(request.getParameterValues("sort"));
+
+        return RequestNormalizer.pagination(request::getParameter)
+            .map(pagination -> new ResponseCache.Key(request.getRequestURI(), pagination, sorting, params, headers));
+    }
+
+    private final String getName(final HandlerMethod handlerMethod, final CachedResponse config) {
+        final String name;
+
+        if (config.value()
+            .isBlank()) {
+            name = handlerMethod.getBeanType()
+                .getName() + "#"
+                    + handlerMethod.getMethod()
+                        .getName();
+        } else {
+            name = config.value();
+        }
+
+        return name;
+    }
+
+    private final void write(final SerializedBody body, final boolean eTag, final HttpServletRequest request,
+            final HttpServletResponse response) {
+        final ServletServerHttpResponse serverResponse;
+
+        serverResponse = new ServletServerHttpResponse(response);
+        if (!eTag || !ConditionalRequests.checkNotModified(body.etag(), new ServletServerHttpRequest(request),
+            serverResponse)) {
+            body.write(serverResponse);
+            try {
+                serverResponse.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+}
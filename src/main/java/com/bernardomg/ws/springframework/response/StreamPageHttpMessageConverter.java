@@ -0,0 +1,138 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import com.bernardomg.ws.response.domain.model.StreamPage;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes {@link StreamPage} as JSON. The page data is written first, so the client receives it before the content.
+ * Then the elements are serialized one by one into the output, which is flushed periodically, so the memory used
+ * depends on the size of a single element, and not on the page size.
+ * <p>
+ * The number of elements in the page is written last, once the stream is consumed.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class StreamPageHttpMessageConverter extends AbstractHttpMessageConverter<StreamPage<?>> {
+
+    /**
+     * Default number of elements written between flushes.
+     */
+    private static final int   DEFAULT_FLUSH_INTERVAL = 100;
+
+    /**
+     * Number of elements written between flushes.
+     */
+    private final int          flushInterval;
+
+    /**
+     * Object mapper for the elements.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a converter with the default flush interval.
+     *
+     * @param mapper
+     *            object mapper for the elements
+     */
+    public StreamPageHttpMessageConverter(final ObjectMapper mapper) {
+        this(mapper, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Constructs a converter with the received flush interval.
+     *
+     * @param mapper
+     *            object mapper for the elements
+     * @param interval
+     *            number of elements written between flushes
+     */
+    public StreamPageHttpMessageConverter(final ObjectMapper mapper, final int interval) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+
+        objectMapper = Objects.requireNonNull(mapper, "Received null object mapper");
+        flushInterval = interval;
+    }
+
+    @Override
+    public final boolean canRead(final Class<?> clazz, final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected final StreamPage<?> readInternal(final Class<? extends StreamPage<?>> clazz,
+            final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Stream pages can't be read", inputMessage);
+    }
+
+    @Override
+    protected final boolean supports(final Class<?> clazz) {
+        return StreamPage.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected final void writeInternal(final StreamPage<?> page, final HttpOutputMessage outputMessage)
+            throws IOException {
+        final int written;
+
+        try (Stream<?> content = page.content();
+                JsonGenerator generator = objectMapper.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()),
+                    JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("size", page.size());
+            generator.writeNumberField("page", page.page());
+            generator.writeNumberField("totalElements", page.totalElements());
+            generator.writeNumberField("totalPages", page.totalPages());
+            generator.writeBooleanField("first", page.first());
+            generator.writeBooleanField("last", page.last());
+            generator.writeFieldName("sort");
+            generator.writeObject(page.sort());
+            // Sends the page data before starting on the content
+            generator.flush();
+
+            written = StreamedContent.write(content, generator, flushInterval);
+
+            generator.writeNumberField("elementsInPage", written);
+            generator.writeEndObject();
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import com.bernardomg.ws.response.domain.model.StreamResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes {@link StreamResponse} as JSON. The elements are serialized one by one into the output, which is flushed
+ * periodically, so the memory used depends on the size of a single element, and not on the number of them.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class StreamResponseHttpMessageConverter extends AbstractHttpMessageConverter<StreamResponse<?>> {
+
+    /**
+     * Default number of elements written between flushes.
+     */
+    private static final int   DEFAULT_FLUSH_INTERVAL = 100;
+
+    /**
+     * Number of elements written between flushes.
+     */
+    private final int          flushInterval;
+
+    /**
+     * Object mapper for the elements.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a converter with the default flush interval.
+     *
+     * @param mapper
+     *            object mapper for the elements
+     */
+    public StreamResponseHttpMessageConverter(final ObjectMapper mapper) {
+        this(mapper, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Constructs a converter with the received flush interval.
+     *
+     * @param mapper
+     *            object mapper for the elements
+     * @param interval
+     *            number of elements written between flushes
+     */
+    public StreamResponseHttpMessageConverter(final ObjectMapper mapper, final int interval) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+
+        objectMapper = Objects.requireNonNull(mapper, "Received null object mapper");
+        flushInterval = interval;
+    }
+
+    @Override
+    public final boolean canRead(final Class<?> clazz, final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected final StreamResponse<?> readInternal(final Class<? extends StreamResponse<?>> clazz,
+            final HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Stream responses can't be read", inputMessage);
+    }
+
+    @Override
+    protected final boolean supports(final Class<?> clazz) {
+        return StreamResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected final void writeInternal(final StreamResponse<?> response, final HttpOutputMessage outputMessage)
+            throws IOException {
+        try (Stream<?> content = response.content();
+                JsonGenerator generator = objectMapper.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()),
+                    JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            StreamedContent.write(content, generator, flushInterval);
+            generator.writeEndObject();
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes streamed content into a JSON array, element by element. Shared by the stream message converters.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+final class StreamedContent {
+
+    /**
+     * Writes the elements as the {@code content} array, flushing the generator periodically.
+     *
+     * @param content
+     *            elements to write
+     * @param generator
+     *            generator to write into
+     * @param flushInterval
+     *            number of elements written between flushes, flushing is disabled if not positive
+     * @return the number of elements written
+     * @throws IOException
+     *             if the elements can't be written
+     */
+    public static final int write(final Stream<?> content, final JsonGenerator generator, final int flushInterval)
+            throws IOException {
+        final Iterator<?> elements;
+        int               written;
+
+        generator.writeFieldName("content");
+        generator.writeStartArray();
+
+        elements = content.iterator();
+        written = 0;
+        while (elements.hasNext()) {
+            generator.writeObject(elements.next());
+            written++;
+            if ((flushInterval > 0) && ((written % flushInterval) == 0)) {
+                generator.flush();
+            }
+        }
+
+        generator.writeEndArray();
+
+        return written;
+    }
+
+    private StreamedContent() {
+        super();
+    }
+
+}
@@ -0,0 +1,198 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.springframework.response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.bernardomg.validation.domain.model.FieldFailure;
+import com.bernardomg.ws.response.domain.model.ErrorResponse;
+import com.bernardomg.ws.response.domain.model.FailureResponse;
+import com.bernardomg.ws.response.domain.model.Response;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson module with serializers for the response wrappers. These are written field by field into the generator,
+ * instead of going through the reflective record introspection, as they are part of every response.
+ * <p>
+ * The output is the same as the default serialization. Null values are skipped if the mapper default inclusion
+ * excludes them.
+ *
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ */
+public final class WebServiceJacksonModule extends SimpleModule {
+
+    /**
+     * Serializer for {@link ErrorResponse}.
+     */
+    private static final class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+        private static final long serialVersionUID = 1L;
+
+        public ErrorResponseSerializer() {
+            super(ErrorResponse.class);
+        }
+
+        @Override
+        public final void serialize(final ErrorResponse value, final JsonGenerator gen,
+                final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeStringField("code", value.code());
+            gen.writeStringField("message", value.message());
+            gen.writeEndObject();
+        }
+
+    }
+
+    /**
+     * Serializer for {@link FailureResponse}.
+     */
+    private static final class FailureResponseSerializer extends StdSerializer<FailureResponse> {
+
+        private static final long serialVersionUID = 1L;
+
+        public FailureResponseSerializer() {
+            super(FailureResponse.class);
+        }
+
+        @Override
+        public final void serialize(final FailureResponse value, final JsonGenerator gen,
+                final SerializerProvider provider) throws IOException {
+            final boolean                         skipNulls;
+            final Map<String, List<FieldFailure>> failures;
+
+            skipNulls = isSkippingNulls(provider);
+            if (provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)) {
+                failures = new TreeMap<>(value.failures());
+            } else {
+                failures = value.failures();
+            }
+
+            gen.writeStartObject(value);
+            gen.writeStringField("code", value.code());
+            gen.writeStringField("message", value.message());
+            gen.writeFieldName("failures");
+            gen.writeStartObject();
+            for (final Map.Entry<String, List<FieldFailure>> fieldFailures : failures.entrySet()) {
+                gen.writeFieldName(fieldFailures.getKey());
+                gen.writeStartArray();
+                for (final FieldFailure failure : fieldFailures.getValue()) {
+                    writeFailure(failure, skipNulls, gen, provider);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+            gen.writeEndObject();
+        }
+
+        private final void writeFailure(final FieldFailure failure, final boolean skipNulls, final JsonGenerator gen,
+                final SerializerProvider provider) throws IOException {
+            gen.writeStartObject(failure);
+            writeString("code", failure.code(), skipNulls, gen);
+            writeString("message", failure.message(), skipNulls, gen);
+            writeString("field", failure.field(), skipNulls, gen);
+            if (failure.value() != null) {
+                provider.defaultSerializeField("value", failure.value(), gen);
+            } else if (!skipNulls) {
+                gen.writeNullField("value");
+            }
+            gen.writeEndObject();
+        }
+
+        private final void writeString(final String name, final String value, final boolean skipNulls,
+                final JsonGenerator gen) throws IOException {
+            if ((value != null) || !skipNulls) {
+                gen.writeStringField(name, value);
+            }
+        }
+
+    }
+
+    /**
+     * Serializer for {@link Response}. The content is serialized with the serializer registered for its type.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class ResponseSerializer extends StdSerializer<Response> {
+
+        private static final long serialVersionUID = 1L;
+
+        public ResponseSerializer() {
+            super(Response.class);
+        }
+
+        @Override
+        public final void serialize(final Response value, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(value);
+            if (value.content() != null) {
+                provider.defaultSerializeField("content", value.content(), gen);
+            } else if (!isSkippingNulls(provider)) {
+                gen.writeNullField("content");
+            }
+            gen.writeEndObject();
+        }
+
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Checks if the mapper skips null values.
+     *
+     * @param provider
+     *            serializer provider with the mapper configuration
+     * @return {@code true} if null values are not written, {@code false} otherwise
+     */
+    private static final boolean isSkippingNulls(final SerializerProvider provider) {
+        final JsonInclude.Include inclusion;
+
+        inclusion = provider.getConfig()
+            .getDefaultPropertyInclusion()
+            .getValueInclusion();
+        return (inclusion != JsonInclude.Include.ALWAYS) && (inclusion != JsonInclude.Include.USE_DEFAULTS)
+                && (inclusion != JsonInclude.Include.CUSTOM);
+    }
+
+    /**
+     * Default constructor.
+     */
+    public WebServiceJacksonModule() {
+        super("WebServiceJacksonModule", Version.unknownVersion());
+
+        addSerializer(Response.class, new ResponseSerializer());
+        addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+        addSerializer(FailureResponse.class, new FailureResponseSerializer());
+    }
+
+}
@@ -18,14 +18,20 @@ public class ModulesArchitectureRulesTest {
         .definedBy("com.bernardomg.ws.response..")
         .layer("WS config")
         .definedBy("com.bernardomg.ws.configuration..")
+        .layer("WS Micrometer")
+        .definedBy("com.bernardomg.ws.micrometer..")
         .layer("WS Spring error")
         .definedBy("com.bernardomg.ws.springframework.error..")
         .layer("WS Spring request")
         .definedBy("com.bernardomg.ws.springframework.request..")
+        .layer("WS Spring response")
+        .definedBy("com.bernardomg.ws.springframework.response..")
 
         .whereLayer("WS response")
-        .mayOnlyBeAccessedByLayers("WS Spring error")
+        .mayOnlyBeAccessedByLayers("WS Spring error", "WS Spring response")
         .whereLayer("WS Spring error")
+        .mayOnlyBeAccessedByLayers("WS config", "WS Micrometer")
+        .whereLayer("WS Micrometer")
         .mayOnlyBeAccessedByLayers("WS config")
         .whereLayer("WS config")
         .mayNotBeAccessedByAnyLayer();
@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.configuration.config.controller;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(BlockingController.PATH)
+public class BlockingController {
+
+    public static final String   PATH    = "/blocking";
+
+    private static final long    TIMEOUT = 10;
+
+    private final CountDownLatch latch;
+
+    public BlockingController(final CountDownLatch blockingLatch) {
+        super();
+
+        latch = blockingLatch;
+    }
+
+    /**
+     * Blocks until all the concurrent requests have arrived. Returns {@code true} if they did, and the request ran on a
+     * virtual thread.
+     *
+     * @return {@code true} if all the requests ran at the same time on virtual threads
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Callable<Boolean> block() {
+        return () -> {
+            latch.countDown();
+            return latch.await(TIMEOUT, TimeUnit.SECONDS) && isVirtual(Thread.currentThread());
+        };
+    }
+
+    private final boolean isVirtual(final Thread thread) throws ReflectiveOperationException {
+        // Read through reflection, as the code is compiled for Java 17
+        return (Boolean) Thread.class.getMethod("isVirtual")
+            .invoke(thread);
+    }
+
+}
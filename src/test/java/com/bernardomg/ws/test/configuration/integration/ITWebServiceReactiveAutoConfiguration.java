@@ -0,0 +1,139 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.configuration.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import com.bernardomg.ws.configuration.WebServiceAutoConfiguration;
+import com.bernardomg.ws.configuration.WebServiceBinaryFormatsAutoConfiguration;
+import com.bernardomg.ws.configuration.WebServiceReactiveAutoConfiguration;
+import com.bernardomg.ws.springframework.error.ExceptionMapping;
+import com.bernardomg.ws.springframework.error.ExceptionMappings;
+import com.bernardomg.ws.springframework.error.ExceptionMappingsCustomizer;
+import com.bernardomg.ws.springframework.error.GlobalExceptionHandler;
+import com.bernardomg.ws.springframework.error.ReactiveGlobalExceptionHandler;
+import com.bernardomg.ws.springframework.request.PaginationArgumentResolver;
+import com.bernardomg.ws.springframework.request.ReactivePaginationArgumentResolver;
+import com.bernardomg.ws.springframework.request.ReactiveSortingArgumentResolver;
+import com.bernardomg.ws.springframework.response.CompressionFilter;
+
+@DisplayName("Web service auto configuration by web application type")
+class ITWebServiceReactiveAutoConfiguration {
+
+    private final AutoConfigurations configurations = AutoConfigurations.of(WebServiceAutoConfiguration.class,
+        WebServiceBinaryFormatsAutoConfiguration.class, WebServiceReactiveAutoConfiguration.class);
+
+    public ITWebServiceReactiveAutoConfiguration() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With compression disabled it doesn't register the compression filter")
+    void testConfiguration_CompressionDisabled() {
+        new WebApplicationContextRunner().withConfiguration(configurations)
+            .withPropertyValues("bernardomg.ws.compression.enabled=false")
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(CompressionFilter.class);
+            });
+    }
+
+    @Test
+    @DisplayName("With compression enabled it registers the compression filter")
+    void testConfiguration_CompressionEnabled() {
+        new WebApplicationContextRunner().withConfiguration(configurations)
+            .withPropertyValues("bernardomg.ws.compression.enabled=true")
+            .run(context -> {
+                assertThat(context).hasSingleBean(CompressionFilter.class);
+            });
+    }
+
+    @Test
+    @DisplayName("With compressed media types it registers the compression filter")
+    void testConfiguration_CompressionMediaTypes() {
+        new WebApplicationContextRunner().withConfiguration(configurations)
+            .withPropertyValues("bernardomg.ws.compression.enabled=true",
+                "bernardomg.ws.compression.media-types=application/json,text/csv",
+                "bernardomg.ws.compression.min-size=1KB")
+            .run(context -> {
+                assertThat(context).hasNotFailed()
+                    .hasSingleBean(CompressionFilter.class);
+            });
+    }
+
+    @Test
+    @DisplayName("With an exception mappings customizer it applies it to the mappings")
+    void testConfiguration_ExceptionMappingsCustomizer() {
+        new WebApplicationContextRunner().withConfiguration(configurations)
+            .withBean(ExceptionMappingsCustomizer.class,
+                () -> mappings -> mappings.register(IllegalStateException.class, HttpStatus.CONFLICT, "Conflict"))
+            .run(context -> {
+                assertThat(context.getBean(ExceptionMappings.class)
+                    .find(IllegalStateException.class)).as("mapping")
+                    .contains(new ExceptionMapping(HttpStatus.CONFLICT, "Conflict"));
+            });
+    }
+
+    @Test
+    @DisplayName("On a reactive application it registers the reactive components")
+    void testConfiguration_Reactive() {
+        new ReactiveWebApplicationContextRunner().withConfiguration(configurations)
+            .run(context -> {
+                assertThat(context).hasSingleBean(ReactivePaginationArgumentResolver.class)
+                    .hasSingleBean(ReactiveSortingArgumentResolver.class)
+                    .hasSingleBean(ReactiveGlobalExceptionHandler.class)
+                    .hasSingleBean(ExceptionMappings.class)
+                    .hasBean("cborCodecCustomizer")
+                    .doesNotHaveBean(MappingJackson2CborHttpMessageConverter.class)
+                    .doesNotHaveBean(CompressionFilter.class)
+                    .doesNotHaveBean(PaginationArgumentResolver.class)
+                    .doesNotHaveBean(GlobalExceptionHandler.class);
+            });
+    }
+
+    @Test
+    @DisplayName("On a servlet application it registers the servlet components")
+    void testConfiguration_Servlet() {
+        new WebApplicationContextRunner().withConfiguration(configurations)
+            .run(context -> {
+                assertThat(context).hasSingleBean(PaginationArgumentResolver.class)
+                    .hasSingleBean(GlobalExceptionHandler.class)
+                    .hasSingleBean(ExceptionMappings.class)
+                    .hasSingleBean(MappingJackson2CborHttpMessageConverter.class)
+                    .doesNotHaveBean(CompressionFilter.class)
+                    .doesNotHaveBean("cborCodecCustomizer")
+                    .doesNotHaveBean(ReactivePaginationArgumentResolver.class)
+                    .doesNotHaveBean(ReactiveGlobalExceptionHandler.class);
+            });
+    }
+
+}
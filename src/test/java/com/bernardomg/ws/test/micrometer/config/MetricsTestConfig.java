@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.micrometer.config;
+
+import java.util.List;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.bernardomg.ws.micrometer.MicrometerArgumentResolutionListener;
+import com.bernardomg.ws.micrometer.MicrometerCompressionListener;
+import com.bernardomg.ws.micrometer.MicrometerExceptionHandlingListener;
+import com.bernardomg.ws.springframework.error.ExceptionLoggingPolicy;
+import com.bernardomg.ws.springframework.error.GlobalExceptionHandler;
+import com.bernardomg.ws.springframework.request.PageSizePolicy;
+import com.bernardomg.ws.springframework.request.PaginationArgumentResolver;
+import com.bernardomg.ws.springframework.request.SortingArgumentResolver;
+import com.bernardomg.ws.springframework.response.CompressionFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@TestConfiguration
+public class MetricsTestConfig {
+
+    public static final int MAX_SIZE = 100;
+
+    @Bean
+    public CompressionFilter compressionFilter(final MeterRegistry registry) {
+        return new CompressionFilter(CompressionFilter.DEFAULT_MIN_SIZE, CompressionFilter.DEFAULT_MEDIA_TYPES,
+            new MicrometerCompressionListener(registry));
+    }
+
+    @Bean
+    public GlobalExceptionHandler globalExceptionHandler(final MeterRegistry registry) {
+        return new GlobalExceptionHandler(new ExceptionLoggingPolicy(),
+            List.of(new MappingJackson2HttpMessageConverter()), new MicrometerExceptionHandlingListener(registry));
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public WebMvcConfigurer webMvcConfigurer(final MeterRegistry registry) {
+        final MicrometerArgumentResolutionListener listener;
+
+        listener = new MicrometerArgumentResolutionListener(registry);
+
+        return new WebMvcConfigurer() {
+
+            @Override
+            public void addArgumentResolvers(final List<HandlerMethodArgumentResolver> resolvers) {
+                resolvers.add(new PaginationArgumentResolver(MAX_SIZE, PageSizePolicy.CLAMP, listener));
+                resolvers.add(new SortingArgumentResolver(0, listener));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,175 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.micrometer.integration;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.bernardomg.ws.test.micrometer.config.MetricsTestConfig;
+import com.bernardomg.ws.test.springframework.error.config.controller.ExceptionController;
+import com.bernardomg.ws.test.springframework.error.config.controller.TestExceptionRequest;
+import com.bernardomg.ws.test.springframework.request.config.controller.PaginationController;
+import com.bernardomg.ws.test.springframework.request.config.controller.PaginationController.PaginationReceiver;
+import com.bernardomg.ws.test.springframework.request.config.controller.SortingController;
+import com.bernardomg.ws.test.springframework.request.config.controller.SortingController.SortingReceiver;
+import com.bernardomg.ws.test.springframework.request.config.controller.TestPaginationRequest;
+import com.bernardomg.ws.test.springframework.request.config.controller.TestSortingRequest;
+import com.bernardomg.ws.test.springframework.response.config.controller.CompressionController;
+import com.bernardomg.ws.test.springframework.response.config.controller.TestCompressionRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@WebMvcTest({ PaginationController.class, SortingController.class, ExceptionController.class,
+        CompressionController.class })
+@ExtendWith(MockitoExtension.class)
+@SpringJUnitConfig(MetricsTestConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("Micrometer listeners")
+class ITMicrometerListeners {
+
+    @Autowired
+    private MockMvc            mockMvc;
+
+    @MockitoBean
+    private PaginationReceiver paginationReceiver;
+
+    @Autowired
+    private MeterRegistry      registry;
+
+    @MockitoBean
+    private SortingReceiver    sortingReceiver;
+
+    public ITMicrometerListeners() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a compressed response, it records the sizes and compression time")
+    void testMetrics_Compression() throws Exception {
+        // WHEN
+        mockMvc.perform(TestCompressionRequest.large());
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(registry.get("bernardomg.ws.compression.original")
+                .summary()
+                .count())
+                .as("compressed responses")
+                .isEqualTo(1);
+            soft.assertThat(registry.get("bernardomg.ws.compression.compressed")
+                .summary()
+                .max())
+                .as("compressed size")
+                .isLessThan(registry.get("bernardomg.ws.compression.original")
+                    .summary()
+                    .max());
+            soft.assertThat(registry.get("bernardomg.ws.compression.time")
+                .timer()
+                .count())
+                .as("compression time")
+                .isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("With a handled exception, it records the exception")
+    void testMetrics_Exception() throws Exception {
+        // WHEN
+        mockMvc.perform(TestExceptionRequest.illegalArgument());
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(registry.get("bernardomg.ws.exception.handled")
+                .tag("exception", "IllegalArgumentException")
+                .tag("status", "400")
+                .timer()
+                .count())
+                .as("handled exceptions")
+                .isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("With an oversized pagination, it records the requested and effective sizes")
+    void testMetrics_OversizedPagination() throws Exception {
+        // WHEN
+        mockMvc.perform(TestPaginationRequest.oversizedPagination());
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(registry.get("bernardomg.ws.argument.resolution")
+                .tag("type", "Pagination")
+                .timer()
+                .count())
+                .as("resolutions")
+                .isEqualTo(1);
+            soft.assertThat(registry.get("bernardomg.ws.pagination.size.requested")
+                .summary()
+                .max())
+                .as("requested size")
+                .isEqualTo(TestPaginationRequest.OVERSIZE);
+            soft.assertThat(registry.get("bernardomg.ws.pagination.size.effective")
+                .summary()
+                .max())
+                .as("effective size")
+                .isEqualTo(MetricsTestConfig.MAX_SIZE);
+        });
+    }
+
+    @Test
+    @DisplayName("With a sorting, it records the sort properties")
+    void testMetrics_Sorting() throws Exception {
+        // WHEN
+        mockMvc.perform(TestSortingRequest.multipleSorting());
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(registry.get("bernardomg.ws.sorting.property")
+                .tag("property", "field")
+                .tag("direction", "ASC")
+                .counter()
+                .count())
+                .as("field sorting")
+                .isEqualTo(1);
+            soft.assertThat(registry.get("bernardomg.ws.sorting.property")
+                .tag("property", "field2")
+                .tag("direction", "DESC")
+                .counter()
+                .count())
+                .as("field2 sorting")
+                .isEqualTo(1);
+        });
+    }
+
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.response.domain.model.unit;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.ws.response.domain.model.Slice;
+
+@DisplayName("Slice")
+class SliceTest {
+
+    private static final Pagination PAGINATION = new Pagination(1, 2);
+
+    private static final Sorting    SORTING    = new Sorting(List.of());
+
+    @Test
+    @DisplayName("With one element over the page size, it has a next page without that element")
+    void testOfLookahead_Extra() {
+        final Slice<String> slice;
+
+        // WHEN
+        slice = Slice.ofLookahead(List.of("a", "b", "c"), PAGINATION, SORTING);
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(slice.content())
+                .as("content")
+                .containsExactly("a", "b");
+            soft.assertThat(slice.elementsInPage())
+                .as("elements in page")
+                .isEqualTo(2);
+            soft.assertThat(slice.hasNext())
+                .as("has next")
+                .isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("With as many elements as the page size, it has no next page")
+    void testOfLookahead_Full() {
+        final Slice<String> slice;
+
+        // WHEN
+        slice = Slice.ofLookahead(List.of("a", "b"), PAGINATION, SORTING);
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(slice.content())
+                .as("content")
+                .containsExactly("a", "b");
+            soft.assertThat(slice.elementsInPage())
+                .as("elements in page")
+                .isEqualTo(2);
+            soft.assertThat(slice.hasNext())
+                .as("has next")
+                .isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("With less elements than the page size, it has no next page")
+    void testOfLookahead_Partial() {
+        final Slice<String> slice;
+
+        // WHEN
+        slice = Slice.ofLookahead(List.of("a"), PAGINATION, SORTING);
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(slice.content())
+                .as("content")
+                .containsExactly("a");
+            soft.assertThat(slice.elementsInPage())
+                .as("elements in page")
+                .isOne();
+            soft.assertThat(slice.hasNext())
+                .as("has next")
+                .isFalse();
+        });
+    }
+
+}
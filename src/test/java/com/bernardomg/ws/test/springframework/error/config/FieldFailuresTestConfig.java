@@ -0,0 +1,57 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.error.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.bernardomg.ws.springframework.error.ExceptionHandlingListener;
+import com.bernardomg.ws.springframework.error.ExceptionLoggingPolicy;
+import com.bernardomg.ws.springframework.error.ExceptionMappings;
+import com.bernardomg.ws.springframework.error.FieldFailureCodeTable;
+import com.bernardomg.ws.springframework.error.FieldFailureMapper;
+import com.bernardomg.ws.springframework.error.GlobalExceptionHandler;
+
+@TestConfiguration
+public class FieldFailuresTestConfig {
+
+    public static final int MAX_FAILURES = 2;
+
+    @Bean
+    public GlobalExceptionHandler globalExceptionHandler() {
+        final FieldFailureMapper failureMapper;
+
+        failureMapper = new FieldFailureMapper(new FieldFailureCodeTable(Map.of("NotNull", "required")), MAX_FAILURES);
+
+        return new GlobalExceptionHandler(new ExceptionLoggingPolicy(),
+            List.of(new MappingJackson2HttpMessageConverter()), ExceptionHandlingListener.NO_OP,
+            new ExceptionMappings(), failureMapper);
+    }
+
+}
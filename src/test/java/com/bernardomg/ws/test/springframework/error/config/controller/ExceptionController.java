@@ -3,6 +3,7 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.HttpStatus;
@@ -16,6 +17,9 @@
 
 import com.bernardomg.validation.domain.exception.FieldFailureException;
 import com.bernardomg.validation.domain.model.FieldFailure;
+import com.bernardomg.ws.springframework.request.MalformedParameterException;
+import com.bernardomg.ws.test.springframework.error.config.model.ChildConflictTestException;
+import com.bernardomg.ws.test.springframework.error.config.model.ConflictTestException;
 import com.bernardomg.ws.test.springframework.error.config.model.ErrorTestObject;
 
 import jakarta.validation.Valid;
@@ -26,10 +30,18 @@ public class ExceptionController {
 
     public static final String PATH                            = "/exception";
 
+    public static final String PATH_CHILD_CONFLICT             = PATH + "/childConflict";
+
+    public static final String PATH_CONFLICT                   = PATH + "/conflict";
+
     public static final String PATH_FIELD_EXCEPTION_VALIDATION = PATH + "/field";
 
+    public static final String PATH_FIELDS_VALIDATION          = PATH + "/fields";
+
     public static final String PATH_ILLEGAL_ARGUMENT           = PATH + "/illegalArgument";
 
+    public static final String PATH_MALFORMED                  = PATH + "/malformed";
+
     public static final String PATH_METHOD_ARG                 = PATH + "/methodArg";
 
     public static final String PATH_MISSING_ID                 = PATH + "/missingId";
@@ -44,6 +56,16 @@ public ExceptionController() {
         super();
     }
 
+    @GetMapping(path = "/childConflict", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void childConflict() {
+        throw new ChildConflictTestException();
+    }
+
+    @GetMapping(path = "/conflict", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void conflict() {
+        throw new ConflictTestException();
+    }
+
     @GetMapping(path = "/field", produces = MediaType.APPLICATION_JSON_VALUE)
     public void exceptionFieldValidation() {
         final FieldFailure             failure;
@@ -57,6 +79,17 @@ public void exceptionFieldValidation() {
         throw new FieldFailureException("", failures);
     }
 
+    @GetMapping(path = "/fields", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void exceptionFieldsValidation() {
+        final Collection<FieldFailure> failures;
+
+        failures = List.of(new FieldFailure("code", "field1", "Error message", "value"),
+            new FieldFailure("code", "field2", "Error message", "value"),
+            new FieldFailure("code", "field3", "Error message", "value"));
+
+        throw new FieldFailureException("", failures);
+    }
+
     @PostMapping(path = "/methodArg", produces = MediaType.APPLICATION_JSON_VALUE)
     public ErrorTestObject exceptionMethodArg(@Valid @RequestBody final ErrorTestObject arg) {
         return arg;
@@ -67,6 +100,11 @@ public void illegalArgument() {
         throw new IllegalArgumentException();
     }
 
+    @GetMapping(path = "/malformed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void malformed() {
+        throw MalformedParameterException.INSTANCE;
+    }
+
     @GetMapping(path = "/runtime", produces = MediaType.APPLICATION_JSON_VALUE)
     public void runtimeException() {
         throw new RuntimeException("Error message");
@@ -7,16 +7,37 @@
 
 public final class TestExceptionRequest {
 
+    public static final RequestBuilder childConflict() {
+        return MockMvcRequestBuilders.get(ExceptionController.PATH_CHILD_CONFLICT)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder conflict() {
+        return MockMvcRequestBuilders.get(ExceptionController.PATH_CONFLICT)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     public static final RequestBuilder fieldValidation() {
         return MockMvcRequestBuilders.get(ExceptionController.PATH_FIELD_EXCEPTION_VALIDATION)
             .contentType(MediaType.APPLICATION_JSON);
     }
 
+    public static final RequestBuilder fieldsValidation() {
+        return MockMvcRequestBuilders.get(ExceptionController.PATH_FIELDS_VALIDATION)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     public static final RequestBuilder illegalArgument() {
         return MockMvcRequestBuilders.get(ExceptionController.PATH_ILLEGAL_ARGUMENT)
             .contentType(MediaType.APPLICATION_JSON);
     }
 
+    public static final RequestBuilder illegalArgumentAcceptingJson() {
+        return MockMvcRequestBuilders.get(ExceptionController.PATH_ILLEGAL_ARGUMENT)
+            .accept(MediaType.APPLICATION_JSON)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     public static final RequestBuilder methodArgument() {
         return MockMvcRequestBuilders.post(ExceptionController.PATH_METHOD_ARG)
             .content("{}")
@@ -38,6 +59,12 @@ public static final RequestBuilder unhandledSpring() {
             .contentType(MediaType.APPLICATION_JSON);
     }
 
+    public static final RequestBuilder unreadableBody() {
+        return MockMvcRequestBuilders.post(ExceptionController.PATH_METHOD_ARG)
+            .content("{")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     private TestExceptionRequest() {
         super();
     }
@@ -28,6 +28,7 @@
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,6 +38,7 @@
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -112,6 +114,27 @@ void testErrorHandling_IllegalArgument() throws Exception {
         result.andExpect(jsonPath("$.failures").doesNotExist());
     }
 
+    @Test
+    @DisplayName("With an illegal argument exception accepting JSON it returns the JSON error response")
+    void testErrorHandling_IllegalArgument_AcceptingJson() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestExceptionRequest.illegalArgumentAcceptingJson());
+
+        // THEN
+
+        // The value was not found
+        result.andExpect(status().isBadRequest());
+
+        // The response is JSON
+        result.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        // The response contains the expected attributes
+        result.andExpect(jsonPath("$.code", equalTo("400")));
+        result.andExpect(jsonPath("$.message", equalTo("Bad request")));
+    }
+
     @Test
     @DisplayName("With a method argument exception it returns the failures response")
     void testErrorHandling_MethodArgumentError() throws Exception {
@@ -214,4 +237,23 @@ void testErrorHandling_UnhandledSpring() throws Exception {
         result.andExpect(jsonPath("$.failures").doesNotExist());
     }
 
+    @Test
+    @DisplayName("With an unreadable body it returns the generic error response")
+    void testErrorHandling_UnreadableBody() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestExceptionRequest.unreadableBody());
+
+        // THEN
+        result.andExpect(status().isBadRequest());
+
+        // The response contains the expected attributes
+        result.andExpect(jsonPath("$.code", equalTo("400")));
+        result.andExpect(jsonPath("$.message", equalTo("Bad request")));
+
+        // The response contains no failures attribute
+        result.andExpect(jsonPath("$.failures").doesNotExist());
+    }
+
 }
@@ -0,0 +1,85 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.error.integration;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.bernardomg.ws.test.springframework.error.config.FieldFailuresTestConfig;
+import com.bernardomg.ws.test.springframework.error.config.controller.ExceptionController;
+import com.bernardomg.ws.test.springframework.error.config.controller.TestExceptionRequest;
+
+@WebMvcTest(ExceptionController.class)
+@SpringJUnitConfig(FieldFailuresTestConfig.class)
+@DisplayName("Global exception handler with custom field failures")
+class ITGlobalExceptionHandlerFieldFailures {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    public ITGlobalExceptionHandlerFieldFailures() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a mapped validation code it returns the mapped failure code")
+    void testErrorHandling_MappedCode() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestExceptionRequest.methodArgument());
+
+        // THEN
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.failures['name'][0].code", equalTo("required")));
+    }
+
+    @Test
+    @DisplayName("With more failures than the maximum it returns only the first ones")
+    void testErrorHandling_OverMaxFailures() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestExceptionRequest.fieldsValidation());
+
+        // THEN
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.failures", aMapWithSize(FieldFailuresTestConfig.MAX_FAILURES)));
+        result.andExpect(jsonPath("$.failures", hasKey("field1")));
+        result.andExpect(jsonPath("$.failures", hasKey("field2")));
+    }
+
+}
@@ -0,0 +1,111 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.error.integration;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.bernardomg.ws.test.springframework.error.config.ExceptionMappingsTestConfig;
+import com.bernardomg.ws.test.springframework.error.config.controller.ExceptionController;
+import com.bernardomg.ws.test.springframework.error.config.controller.TestExceptionRequest;
+
+@WebMvcTest(ExceptionController.class)
+@SpringJUnitConfig(ExceptionMappingsTestConfig.class)
+@DisplayName("Global exception handler with custom exception mappings")
+class ITGlobalExceptionHandlerMappings {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    public ITGlobalExceptionHandlerMappings() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a subclass of a mapped exception it returns the mapped error response")
+    void testErrorHandling_ChildMappedException() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestExceptionRequest.childConflict());
+
+        // THEN
+        result.andExpect(status().isConflict());
+        result.andExpect(jsonPath("$.code", equalTo("409")));
+        result.andExpect(jsonPath("$.message", equalTo("Conflict")));
+    }
+
+    @Test
+    @DisplayName("With a default mapped exception it returns the default error response")
+    void testErrorHandling_DefaultMapping() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestExceptionRequest.illegalArgument());
+
+        // THEN
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.code", equalTo("400")));
+        result.andExpect(jsonPath("$.message", equalTo("Bad request")));
+    }
+
+    @Test
+    @DisplayName("With a mapped exception it returns the mapped error response")
+    void testErrorHandling_MappedException() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestExceptionRequest.conflict());
+
+        // THEN
+        result.andExpect(status().isConflict());
+        result.andExpect(jsonPath("$.code", equalTo("409")));
+        result.andExpect(jsonPath("$.message", equalTo("Conflict")));
+    }
+
+    @Test
+    @DisplayName("With an unmapped exception it returns the internal error response")
+    void testErrorHandling_Unmapped() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestExceptionRequest.runtime());
+
+        // THEN
+        result.andExpect(status().isInternalServerError());
+        result.andExpect(jsonPath("$.code", equalTo("500")));
+        result.andExpect(jsonPath("$.message", equalTo("Internal error")));
+    }
+
+}
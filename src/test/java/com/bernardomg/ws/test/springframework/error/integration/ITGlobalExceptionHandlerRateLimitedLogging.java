@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.error.integration;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import com.bernardomg.ws.springframework.error.GlobalExceptionHandler;
+import com.bernardomg.ws.test.springframework.error.config.RateLimitedLoggingTestConfig;
+import com.bernardomg.ws.test.springframework.error.config.controller.ExceptionController;
+
+@WebMvcTest(ExceptionController.class)
+@SpringJUnitConfig(RateLimitedLoggingTestConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("Global exception handler with rate limited logging")
+class ITGlobalExceptionHandlerRateLimitedLogging {
+
+    @Autowired
+    private GlobalExceptionHandler handler;
+
+    @Autowired
+    private MockMvc                mockMvc;
+
+    public ITGlobalExceptionHandlerRateLimitedLogging() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With different exceptions over the limit, it limits each exception type")
+    void testLogging_DifferentExceptions() throws Exception {
+        // WHEN
+        mockMvc.perform(MockMvcRequestBuilders.get(ExceptionController.PATH_ILLEGAL_ARGUMENT)
+            .contentType(MediaType.APPLICATION_JSON));
+        mockMvc.perform(MockMvcRequestBuilders.get(ExceptionController.PATH_RUNTIME)
+            .contentType(MediaType.APPLICATION_JSON));
+
+        // THEN
+        Assertions.assertThat(handler.getSuppressedLogs())
+            .as("suppressed logs")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("With repeated exceptions logged on a disabled level, it doesn't suppress them")
+    void testLogging_RepeatedDisabledLevel() throws Exception {
+        // WHEN
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get(ExceptionController.PATH_MALFORMED)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        }
+
+        // THEN
+        Assertions.assertThat(handler.getSuppressedLogs())
+            .as("suppressed logs")
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("With repeated exceptions over the limit, it suppresses the logs but still handles them")
+    void testLogging_RepeatedExceptions() throws Exception {
+        // WHEN
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(MockMvcRequestBuilders.get(ExceptionController.PATH_ILLEGAL_ARGUMENT)
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        }
+
+        // THEN
+        Assertions.assertThat(handler.getSuppressedLogs())
+            .as("suppressed logs")
+            .isEqualTo(2);
+    }
+
+}
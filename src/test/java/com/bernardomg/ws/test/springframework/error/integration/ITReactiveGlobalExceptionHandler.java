@@ -0,0 +1,248 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.error.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.reactive.server.WebTestClient.ResponseSpec;
+
+import com.bernardomg.ws.test.springframework.error.config.ReactiveExceptionHandlerTestConfig;
+import com.bernardomg.ws.test.springframework.error.config.controller.ExceptionController;
+
+@WebFluxTest(ExceptionController.class)
+@ExtendWith(MockitoExtension.class)
+@SpringJUnitConfig(ReactiveExceptionHandlerTestConfig.class)
+@DisplayName("Reactive global exception handler")
+class ITReactiveGlobalExceptionHandler {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    public ITReactiveGlobalExceptionHandler() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a field validation exception it returns a failures list")
+    void testErrorHandling_FieldValidationError() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(ExceptionController.PATH_FIELD_EXCEPTION_VALIDATION)
+            .exchange();
+
+        // THEN
+
+        // The operation was rejected
+        result.expectStatus()
+            .isBadRequest();
+
+        // The response contains the expected attributes
+        result.expectBody()
+            .jsonPath("$.failures['field'].length()")
+            .isEqualTo(1)
+            .jsonPath("$.failures['field'][0].message")
+            .isEqualTo("Error message")
+            .jsonPath("$.failures['field'][0].field")
+            .isEqualTo("field")
+            .jsonPath("$.failures['field'][0].code")
+            .isEqualTo("code")
+            .jsonPath("$.failures['field'][0].value")
+            .isEqualTo("value")
+            .jsonPath("$.code")
+            .isEqualTo("400")
+            .jsonPath("$.message")
+            .isEqualTo("Field validation failure")
+            .jsonPath("$.content")
+            .doesNotExist();
+    }
+
+    @Test
+    @DisplayName("With an illegal argument exception it returns the generic error response")
+    void testErrorHandling_IllegalArgument() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(ExceptionController.PATH_ILLEGAL_ARGUMENT)
+            .exchange();
+
+        // THEN
+
+        // The operation was rejected
+        result.expectStatus()
+            .isBadRequest();
+
+        // The response contains the expected attributes
+        result.expectBody()
+            .jsonPath("$.code")
+            .isEqualTo("400")
+            .jsonPath("$.message")
+            .isEqualTo("Bad request")
+            .jsonPath("$.failures")
+            .doesNotExist();
+    }
+
+    @Test
+    @DisplayName("With a method argument exception it returns the failures response")
+    void testErrorHandling_MethodArgumentError() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.post()
+            .uri(ExceptionController.PATH_METHOD_ARG)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("{}")
+            .exchange();
+
+        // THEN
+
+        // The operation was rejected
+        result.expectStatus()
+            .isBadRequest();
+
+        // The response contains the expected attributes
+        result.expectBody()
+            .jsonPath("$.failures['name'].length()")
+            .isEqualTo(1)
+            .jsonPath("$.failures['name'][0].field")
+            .isEqualTo("name")
+            .jsonPath("$.failures['name'][0].value")
+            .doesNotExist()
+            .jsonPath("$.failures['name'][0].code")
+            .isEqualTo("empty")
+            .jsonPath("$.code")
+            .isEqualTo("400")
+            .jsonPath("$.message")
+            .isEqualTo("Field validation failure");
+    }
+
+    @Test
+    @DisplayName("With a missing resource it returns the generic error response with its status")
+    void testErrorHandling_NotFound() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri("/missing")
+            .exchange();
+
+        // THEN
+
+        // The resource was not found
+        result.expectStatus()
+            .isNotFound();
+
+        // The response contains the expected attributes
+        result.expectBody()
+            .jsonPath("$.code")
+            .isEqualTo("404")
+            .jsonPath("$.message")
+            .isEqualTo("Server error. Contact admin.");
+    }
+
+    @Test
+    @DisplayName("With a runtime exception it returns the generic error response")
+    void testErrorHandling_RuntimeException() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(ExceptionController.PATH_RUNTIME)
+            .exchange();
+
+        // THEN
+
+        // The operation was rejected
+        result.expectStatus()
+            .isEqualTo(500);
+
+        // The response contains the expected attributes
+        result.expectBody()
+            .jsonPath("$.code")
+            .isEqualTo("500")
+            .jsonPath("$.message")
+            .isEqualTo("Internal error")
+            .jsonPath("$.failures")
+            .doesNotExist();
+    }
+
+    @Test
+    @DisplayName("With a type mismatch exception it returns the generic error response")
+    void testErrorHandling_TypeMismatch() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(ExceptionController.PATH_TYPE_MISMATCH)
+            .exchange();
+
+        // THEN
+
+        // The operation was rejected
+        result.expectStatus()
+            .isBadRequest();
+
+        // The response contains the expected attributes
+        result.expectBody()
+            .jsonPath("$.code")
+            .isEqualTo("400")
+            .jsonPath("$.message")
+            .isEqualTo("Bad request");
+    }
+
+    @Test
+    @DisplayName("With an unhandled Spring exception it returns the generic error response")
+    void testErrorHandling_UnhandledSpring() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(ExceptionController.PATH_UNHANDLED_SPRING)
+            .exchange();
+
+        // THEN
+
+        // The operation was rejected
+        result.expectStatus()
+            .isEqualTo(500);
+
+        // The response contains the expected attributes
+        result.expectBody()
+            .jsonPath("$.code")
+            .isEqualTo("500")
+            .jsonPath("$.message")
+            .isEqualTo("Server error. Contact admin.");
+    }
+
+}
@@ -5,12 +5,14 @@
 
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.bernardomg.ws.springframework.request.SortingArgumentResolver;
 
 @TestConfiguration
+@ComponentScan("com.bernardomg.ws.springframework.error")
 public class SortingTestConfig {
 
     @Bean
@@ -1,12 +1,16 @@
 
 package com.bernardomg.ws.test.springframework.request.config.controller;
 
+import java.util.Optional;
+
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.ws.request.domain.model.PaginationRequest;
+import com.bernardomg.ws.springframework.request.MaxPageSize;
 
 @RestController
 @RequestMapping(PaginationController.PATH)
@@ -16,9 +20,21 @@ public interface PaginationReceiver {
 
         public void receive(final Pagination pagination);
 
+        public void receiveRequest(final PaginationRequest pagination);
+
+        public void receiveUnpaged();
+
     }
 
-    public static final String       PATH = "/pagination";
+    public static final int          LIMITED_SIZE  = 5;
+
+    public static final String       PATH          = "/pagination";
+
+    public static final String       PATH_LIMITED  = PATH + "/limited";
+
+    public static final String       PATH_OPTIONAL = PATH + "/optional";
+
+    public static final String       PATH_REQUEST  = PATH + "/request";
 
     private final PaginationReceiver paginationReceiver;
 
@@ -33,4 +49,19 @@ public void pagination(final Pagination pagination) {
         paginationReceiver.receive(pagination);
     }
 
+    @GetMapping(path = "/limited", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void paginationLimited(@MaxPageSize(LIMITED_SIZE) final Pagination pagination) {
+        paginationReceiver.receive(pagination);
+    }
+
+    @GetMapping(path = "/optional", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void paginationOptional(final Optional<Pagination> pagination) {
+        pagination.ifPresentOrElse(paginationReceiver::receive, paginationReceiver::receiveUnpaged);
+    }
+
+    @GetMapping(path = "/request", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void paginationRequest(final PaginationRequest pagination) {
+        paginationReceiver.receiveRequest(pagination);
+    }
+
 }
@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.request.config.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bernardomg.ws.springframework.request.ParallelValidation;
+import com.bernardomg.ws.test.springframework.request.config.model.ValidatedTestObject;
+
+@RestController
+@RequestMapping(ParallelValidationController.PATH)
+public class ParallelValidationController {
+
+    public static final int    MAX_ERRORS      = 2;
+
+    public static final String PATH            = "/validation";
+
+    public static final String PATH_FAIL_FAST  = PATH + "/failFast";
+
+    public static final String PATH_MAX_ERRORS = PATH + "/maxErrors";
+
+    public ParallelValidationController() {
+        super();
+    }
+
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public void validate(@ParallelValidation @RequestBody final List<ValidatedTestObject> values) {
+        // Validated while reading the body
+    }
+
+    @PostMapping(path = "/failFast", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void validateFailFast(
+            @ParallelValidation(failFast = true) @RequestBody final List<ValidatedTestObject> values) {
+        // Validated while reading the body
+    }
+
+    @PostMapping(path = "/maxErrors", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void validateMaxErrors(
+            @ParallelValidation(maxErrors = MAX_ERRORS) @RequestBody final List<ValidatedTestObject> values) {
+        // Validated while reading the body
+    }
+
+}
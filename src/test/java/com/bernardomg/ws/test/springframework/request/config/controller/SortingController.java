@@ -7,6 +7,8 @@
 import org.springframework.web.bind.annotation.RestController;
 
 import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.ws.springframework.request.SortProperties;
+import com.bernardomg.ws.springframework.request.SortPropertyPolicy;
 
 @RestController
 @RequestMapping(SortingController.PATH)
@@ -18,7 +20,11 @@ public interface SortingReceiver {
 
     }
 
-    public static final String    PATH = "/sorting";
+    public static final String    PATH          = "/sorting";
+
+    public static final String    PATH_ALLOWED  = PATH + "/allowed";
+
+    public static final String    PATH_REJECTED = PATH + "/rejected";
 
     private final SortingReceiver sortingReceiver;
 
@@ -33,4 +39,15 @@ public void pagination(final Sorting sorting) {
         sortingReceiver.receive(sorting);
     }
 
+    @GetMapping(path = "/allowed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void paginationAllowed(@SortProperties("field") final Sorting sorting) {
+        sortingReceiver.receive(sorting);
+    }
+
+    @GetMapping(path = "/rejected", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void paginationRejected(
+            @SortProperties(value = "field", policy = SortPropertyPolicy.REJECT) final Sorting sorting) {
+        sortingReceiver.receive(sorting);
+    }
+
 }
@@ -0,0 +1,62 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.request.config.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+public final class TestCursorPaginationRequest {
+
+    public static final String CURSOR       = "abc";
+
+    public static final int    DEFAULT_SIZE = 10;
+
+    public static final int    SIZE         = 20;
+
+    public static final RequestBuilder after() {
+        return MockMvcRequestBuilders.get(CursorPaginationController.PATH)
+            .param("after", CURSOR)
+            .param("size", String.valueOf(SIZE))
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder cursor() {
+        return MockMvcRequestBuilders.get(CursorPaginationController.PATH)
+            .param("cursor", CURSOR)
+            .param("size", String.valueOf(SIZE))
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder noCursor() {
+        return MockMvcRequestBuilders.get(CursorPaginationController.PATH)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    private TestCursorPaginationRequest() {
+        super();
+    }
+
+}
@@ -11,10 +11,28 @@ public final class TestPaginationRequest {
 
     public static final int DEFAULT_SIZE = 10;
 
+    public static final int MAX_SIZE     = 100;
+
+    public static final int OVERSIZE     = 1000;
+
     public static final int PAGE         = 2;
 
     public static final int SIZE         = 20;
 
+    public static final RequestBuilder limitedOversizedPagination() {
+        return MockMvcRequestBuilders.get(PaginationController.PATH_LIMITED)
+            .param("page", String.valueOf(PAGE))
+            .param("size", String.valueOf(SIZE))
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder malformedPagination() {
+        return MockMvcRequestBuilders.get(PaginationController.PATH)
+            .param("page", "abc")
+            .param("size", "1e3")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     public static final RequestBuilder negativePagination() {
         return MockMvcRequestBuilders.get(PaginationController.PATH)
             .param("page", "-1")
@@ -27,6 +45,26 @@ public static final RequestBuilder noPagination() {
             .contentType(MediaType.APPLICATION_JSON);
     }
 
+    public static final RequestBuilder oversizedPagination() {
+        return MockMvcRequestBuilders.get(PaginationController.PATH)
+            .param("page", String.valueOf(PAGE))
+            .param("size", String.valueOf(OVERSIZE))
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder optionalPagination() {
+        return MockMvcRequestBuilders.get(PaginationController.PATH_OPTIONAL)
+            .param("page", String.valueOf(PAGE))
+            .param("size", String.valueOf(SIZE))
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder optionalUnpaged() {
+        return MockMvcRequestBuilders.get(PaginationController.PATH_OPTIONAL)
+            .param("paged", "false")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     public static final RequestBuilder pagination() {
         return MockMvcRequestBuilders.get(PaginationController.PATH)
             .param("page", String.valueOf(PAGE))
@@ -34,6 +72,27 @@ public static final RequestBuilder pagination() {
             .contentType(MediaType.APPLICATION_JSON);
     }
 
+    public static final RequestBuilder paginationRequest() {
+        return MockMvcRequestBuilders.get(PaginationController.PATH_REQUEST)
+            .param("page", String.valueOf(PAGE))
+            .param("size", String.valueOf(SIZE))
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder sliceRequest() {
+        return MockMvcRequestBuilders.get(PaginationController.PATH_REQUEST)
+            .param("page", String.valueOf(PAGE))
+            .param("size", String.valueOf(SIZE))
+            .param("count", "false")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder unpaged() {
+        return MockMvcRequestBuilders.get(PaginationController.PATH)
+            .param("paged", "false")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     private TestPaginationRequest() {
         super();
     }
@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.request.config.controller;
+
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+public final class TestParallelValidationRequest {
+
+    private static final String INVALID = "[{\"name\":\"a\"},{},{\"name\":\"c\"},{}]";
+
+    public static final RequestBuilder invalid() {
+        return MockMvcRequestBuilders.post(ParallelValidationController.PATH)
+            .content(INVALID)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder invalidFailFast() {
+        return MockMvcRequestBuilders.post(ParallelValidationController.PATH_FAIL_FAST)
+            .content(INVALID)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder invalidSpanish() {
+        return MockMvcRequestBuilders.post(ParallelValidationController.PATH)
+            .content(INVALID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .locale(Locale.forLanguageTag("es"));
+    }
+
+    public static final RequestBuilder invalidOverMaxErrors() {
+        return MockMvcRequestBuilders.post(ParallelValidationController.PATH_MAX_ERRORS)
+            .content("[{},{},{},{}]")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder valid() {
+        return MockMvcRequestBuilders.post(ParallelValidationController.PATH)
+            .content("[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"},{\"name\":\"d\"}]")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder withNullElement() {
+        return MockMvcRequestBuilders.post(ParallelValidationController.PATH)
+            .content("[{\"name\":\"a\"},null]")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    private TestParallelValidationRequest() {
+        super();
+    }
+
+}
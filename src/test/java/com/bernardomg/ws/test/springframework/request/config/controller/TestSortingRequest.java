@@ -7,12 +7,36 @@
 
 public final class TestSortingRequest {
 
+    public static final RequestBuilder allowedProperties() {
+        return MockMvcRequestBuilders.get(SortingController.PATH_ALLOWED)
+            .param("sort", "field,asc")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder disallowedProperties() {
+        return MockMvcRequestBuilders.get(SortingController.PATH_ALLOWED)
+            .param("sort", "field,asc", "field2,desc")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder disallowedPropertiesRejected() {
+        return MockMvcRequestBuilders.get(SortingController.PATH_REJECTED)
+            .param("sort", "field,asc", "field2,desc")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     public static final RequestBuilder invalidDirection() {
         return MockMvcRequestBuilders.get(SortingController.PATH)
             .param("sort", "field,abc")
             .contentType(MediaType.APPLICATION_JSON);
     }
 
+    public static final RequestBuilder mixedCaseDirection() {
+        return MockMvcRequestBuilders.get(SortingController.PATH)
+            .param("sort", " field , DeSc ")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     public static final RequestBuilder missingDirection() {
         return MockMvcRequestBuilders.get(SortingController.PATH)
             .param("sort", "field")
@@ -30,6 +54,12 @@ public static final RequestBuilder noSorting() {
             .contentType(MediaType.APPLICATION_JSON);
     }
 
+    public static final RequestBuilder pipeSorting() {
+        return MockMvcRequestBuilders.get(SortingController.PATH)
+            .param("sort", "field|asc", "field2|desc")
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
     public static final RequestBuilder singleSorting() {
         return MockMvcRequestBuilders.get(SortingController.PATH)
             .param("sort", "field,asc")
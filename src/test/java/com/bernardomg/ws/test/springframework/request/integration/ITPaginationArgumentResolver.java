@@ -24,7 +24,9 @@
 
 package com.bernardomg.ws.test.springframework.request.integration;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import org.assertj.core.api.SoftAssertions;
@@ -41,6 +43,7 @@
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.ws.request.domain.model.PaginationRequest;
 import com.bernardomg.ws.test.springframework.request.config.PaginationTestConfig;
 import com.bernardomg.ws.test.springframework.request.config.controller.PaginationController;
 import com.bernardomg.ws.test.springframework.request.config.controller.PaginationController.PaginationReceiver;
@@ -66,6 +69,33 @@ public ITPaginationArgumentResolver() {
         super();
     }
 
+    @Test
+    @DisplayName("With a page size over the endpoint limit, it clamps the size to the endpoint limit")
+    void testPagination_LimitedOversized() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestPaginationRequest.limitedOversizedPagination());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(paginationReceiver).receive(assertArg(p -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(Pagination::page)
+                .as("page")
+                .isEqualTo(TestPaginationRequest.PAGE);
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(Pagination::size)
+                .as("size")
+                .isEqualTo(PaginationController.LIMITED_SIZE);
+        })));
+    }
+
     @Test
     @DisplayName("With the pagination params are negative, it parses the default pagination")
     void testPagination_NegativePagination() throws Exception {
@@ -120,6 +150,158 @@ void testPagination_NoPagination() throws Exception {
         })));
     }
 
+    @Test
+    @DisplayName("With an optional pagination and a pagination request, it parses the pagination")
+    void testPagination_Optional() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestPaginationRequest.optionalPagination());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(paginationReceiver).receive(assertArg(p -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(Pagination::page)
+                .as("page")
+                .isEqualTo(TestPaginationRequest.PAGE);
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(Pagination::size)
+                .as("size")
+                .isEqualTo(TestPaginationRequest.SIZE);
+        })));
+    }
+
+    @Test
+    @DisplayName("With an optional pagination and an unpaged request, it parses no pagination")
+    void testPagination_OptionalUnpaged() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestPaginationRequest.optionalUnpaged());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received no pagination
+        verify(paginationReceiver).receiveUnpaged();
+        verify(paginationReceiver, never()).receive(any());
+    }
+
+    @Test
+    @DisplayName("With a page size over the maximum, it clamps the size to the maximum")
+    void testPagination_Oversized() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestPaginationRequest.oversizedPagination());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(paginationReceiver).receive(assertArg(p -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(Pagination::page)
+                .as("page")
+                .isEqualTo(TestPaginationRequest.PAGE);
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(Pagination::size)
+                .as("size")
+                .isEqualTo(TestPaginationRequest.MAX_SIZE);
+        })));
+    }
+
+    @Test
+    @DisplayName("With a pagination request argument, it counts the totals by default")
+    void testPagination_PaginationRequest() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestPaginationRequest.paginationRequest());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(paginationReceiver).receiveRequest(assertArg(p -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(PaginationRequest::pagination)
+                .as("pagination")
+                .isEqualTo(new Pagination(TestPaginationRequest.PAGE, TestPaginationRequest.SIZE));
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(PaginationRequest::count)
+                .as("count")
+                .isEqualTo(true);
+        })));
+    }
+
+    @Test
+    @DisplayName("With a pagination request argument and a slice request, it doesn't count the totals")
+    void testPagination_PaginationRequest_Slice() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestPaginationRequest.sliceRequest());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(paginationReceiver).receiveRequest(assertArg(p -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(PaginationRequest::pagination)
+                .as("pagination")
+                .isEqualTo(new Pagination(TestPaginationRequest.PAGE, TestPaginationRequest.SIZE));
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(PaginationRequest::count)
+                .as("count")
+                .isEqualTo(false);
+        })));
+    }
+
+    @Test
+    @DisplayName("With an unpaged request for a required pagination, it parses the default pagination")
+    void testPagination_Unpaged() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestPaginationRequest.unpaged());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(paginationReceiver).receive(assertArg(p -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(Pagination::page)
+                .as("page")
+                .isEqualTo(TestPaginationRequest.DEFAULT_PAGE);
+            soft.assertThat(p)
+                .as("pagination")
+                .extracting(Pagination::size)
+                .as("size")
+                .isEqualTo(TestPaginationRequest.DEFAULT_SIZE);
+        })));
+    }
+
     @Test
     @DisplayName("With a pagination request, it parses the pagination")
     void testPagination_Pagination() throws Exception {
@@ -0,0 +1,81 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.request.integration;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.bernardomg.ws.test.springframework.request.config.RejectingPaginationTestConfig;
+import com.bernardomg.ws.test.springframework.request.config.controller.PaginationController;
+import com.bernardomg.ws.test.springframework.request.config.controller.PaginationController.PaginationReceiver;
+import com.bernardomg.ws.test.springframework.request.config.controller.TestPaginationRequest;
+
+@WebMvcTest(PaginationController.class)
+@ExtendWith(MockitoExtension.class)
+@SpringJUnitConfig(RejectingPaginationTestConfig.class)
+@DisplayName("Pagination argument resolver with malformed params")
+class ITPaginationArgumentResolverMalformed {
+
+    @Autowired
+    private MockMvc            mockMvc;
+
+    @MockitoBean
+    private PaginationReceiver paginationReceiver;
+
+    public ITPaginationArgumentResolverMalformed() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With malformed pagination params, it rejects the request")
+    void testPagination_Malformed() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestPaginationRequest.malformedPagination());
+
+        // THEN
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.code", equalTo("400")));
+        result.andExpect(jsonPath("$.message", equalTo("Bad request")));
+
+        // The controller was not called
+        verifyNoInteractions(paginationReceiver);
+    }
+
+}
@@ -0,0 +1,137 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.request.integration;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.bernardomg.ws.test.springframework.request.config.ParallelValidationTestConfig;
+import com.bernardomg.ws.test.springframework.request.config.controller.ParallelValidationController;
+import com.bernardomg.ws.test.springframework.request.config.controller.TestParallelValidationRequest;
+
+@WebMvcTest(ParallelValidationController.class)
+@SpringJUnitConfig(ParallelValidationTestConfig.class)
+@DisplayName("Parallel validation advice")
+class ITParallelValidationAdvice {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    public ITParallelValidationAdvice() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With fail fast it returns the failures of a single element")
+    void testValidate_FailFast() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestParallelValidationRequest.invalidFailFast());
+
+        // THEN
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.failures", aMapWithSize(1)));
+    }
+
+    @Test
+    @DisplayName("With invalid elements it returns the failures indexed by element")
+    void testValidate_Invalid() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestParallelValidationRequest.invalid());
+
+        // THEN
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.failures", aMapWithSize(2)));
+        result.andExpect(jsonPath("$.failures", hasKey("[1].name")));
+        result.andExpect(jsonPath("$.failures", hasKey("[3].name")));
+        result.andExpect(jsonPath("$.failures['[1].name'][0].code", equalTo("empty")));
+    }
+
+    @Test
+    @DisplayName("With invalid elements and a locale it returns the failure messages in that locale")
+    void testValidate_Invalid_Locale() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestParallelValidationRequest.invalidSpanish());
+
+        // THEN
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.failures['[1].name'][0].message", equalTo("no debe ser nulo")));
+        result.andExpect(jsonPath("$.failures['[3].name'][0].message", equalTo("no debe ser nulo")));
+    }
+
+    @Test
+    @DisplayName("With more failures than the maximum it returns only the maximum")
+    void testValidate_OverMaxErrors() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestParallelValidationRequest.invalidOverMaxErrors());
+
+        // THEN
+        result.andExpect(status().isBadRequest());
+        result.andExpect(jsonPath("$.failures", aMapWithSize(ParallelValidationController.MAX_ERRORS)));
+    }
+
+    @Test
+    @DisplayName("With valid elements it accepts the request")
+    void testValidate_Valid() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestParallelValidationRequest.valid());
+
+        // THEN
+        result.andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("With a null element it skips the element")
+    void testValidate_WithNull() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestParallelValidationRequest.withNullElement());
+
+        // THEN
+        result.andExpect(status().isOk());
+    }
+
+}
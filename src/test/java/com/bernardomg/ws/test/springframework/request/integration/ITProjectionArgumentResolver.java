@@ -0,0 +1,133 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.request.integration;
+
+import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.Mockito.verify;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.bernardomg.ws.request.domain.model.Projection;
+import com.bernardomg.ws.test.springframework.request.config.ProjectionTestConfig;
+import com.bernardomg.ws.test.springframework.request.config.controller.ProjectionController;
+import com.bernardomg.ws.test.springframework.request.config.controller.ProjectionController.ProjectionReceiver;
+import com.bernardomg.ws.test.springframework.request.config.controller.TestProjectionRequest;
+
+@WebMvcTest(ProjectionController.class)
+@SpringJUnitConfig(ProjectionTestConfig.class)
+@DisplayName("Projection argument resolver")
+class ITProjectionArgumentResolver {
+
+    @Autowired
+    private MockMvc            mockMvc;
+
+    @MockitoBean
+    private ProjectionReceiver projectionReceiver;
+
+    public ITProjectionArgumentResolver() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a field and a nested field of it, it includes the whole field")
+    void testProjection_Covered() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestProjectionRequest.fields("address.city,address"));
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        verify(projectionReceiver).receive(assertArg(p -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(p.paths())
+                .as("paths")
+                .containsExactly("address");
+            soft.assertThat(p.get("address")
+                .isAll())
+                .as("address includes all")
+                .isTrue();
+        })));
+    }
+
+    @Test
+    @DisplayName("With fields, it parses the projection")
+    void testProjection_Fields() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestProjectionRequest.fields("name, address.city", "id"));
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        verify(projectionReceiver).receive(assertArg(p -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(p.paths())
+                .as("paths")
+                .containsExactlyInAnyOrder("name", "address.city", "id");
+            soft.assertThat(p.includes("name"))
+                .as("includes name")
+                .isTrue();
+            soft.assertThat(p.includes("description"))
+                .as("includes description")
+                .isFalse();
+            soft.assertThat(p.get("address")
+                .includes("street"))
+                .as("includes address street")
+                .isFalse();
+        })));
+    }
+
+    @Test
+    @DisplayName("With no fields, it includes all the fields")
+    void testProjection_NoFields() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestProjectionRequest.noFields());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        verify(projectionReceiver).receive(assertArg(p -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(p)
+                .as("projection")
+                .isEqualTo(Projection.ALL);
+        })));
+    }
+
+}
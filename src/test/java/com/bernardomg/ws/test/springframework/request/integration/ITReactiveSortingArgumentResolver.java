@@ -0,0 +1,160 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.request.integration;
+
+import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.reactive.server.WebTestClient.ResponseSpec;
+
+import com.bernardomg.pagination.domain.Sorting.Direction;
+import com.bernardomg.pagination.domain.Sorting.Property;
+import com.bernardomg.ws.test.springframework.request.config.ReactiveSortingTestConfig;
+import com.bernardomg.ws.test.springframework.request.config.controller.SortingController;
+import com.bernardomg.ws.test.springframework.request.config.controller.SortingController.SortingReceiver;
+
+@WebFluxTest(SortingController.class)
+@ExtendWith(MockitoExtension.class)
+@SpringJUnitConfig(ReactiveSortingTestConfig.class)
+@DisplayName("Reactive sorting argument resolver")
+class ITReactiveSortingArgumentResolver {
+
+    @MockitoBean
+    private SortingReceiver sortingReceiver;
+
+    @Autowired
+    private WebTestClient   webTestClient;
+
+    public ITReactiveSortingArgumentResolver() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a sorting request containing not allowed properties, it drops them")
+    void testSorting_DisallowedProperties() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(b -> b.path(SortingController.PATH_ALLOWED)
+                .queryParam("sort", "field,asc", "field2,desc")
+                .build())
+            .exchange();
+
+        // THEN
+        result.expectStatus()
+            .isOk();
+
+        // Received the sorting
+        verify(sortingReceiver).receive(assertArg(s -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(s.properties())
+                .as("properties")
+                .containsExactly(new Property("field", Direction.ASC));
+        })));
+    }
+
+    @Test
+    @DisplayName("With a sorting request containing not allowed properties, it rejects the request")
+    void testSorting_DisallowedPropertiesRejected() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(b -> b.path(SortingController.PATH_REJECTED)
+                .queryParam("sort", "field,asc", "field2,desc")
+                .build())
+            .exchange();
+
+        // THEN
+        result.expectStatus()
+            .isBadRequest();
+        result.expectBody()
+            .jsonPath("$.code")
+            .isEqualTo("400")
+            .jsonPath("$.failures.sort")
+            .exists();
+
+        // The controller was not called
+        verifyNoInteractions(sortingReceiver);
+    }
+
+    @Test
+    @DisplayName("With a sorting request containing multiple fields, it parses the sorting")
+    void testSorting_MultipleSorting() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(b -> b.path(SortingController.PATH)
+                .queryParam("sort", "field,asc", "field2,desc")
+                .build())
+            .exchange();
+
+        // THEN
+        result.expectStatus()
+            .isOk();
+
+        // Received the sorting
+        verify(sortingReceiver).receive(assertArg(s -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(s.properties())
+                .as("properties")
+                .containsExactly(new Property("field", Direction.ASC), new Property("field2", Direction.DESC));
+        })));
+    }
+
+    @Test
+    @DisplayName("With no sorting params, it parses no sorting")
+    void testSorting_NoSorting() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(SortingController.PATH)
+            .exchange();
+
+        // THEN
+        result.expectStatus()
+            .isOk();
+
+        // Received the sorting
+        verify(sortingReceiver).receive(assertArg(s -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(s.properties())
+                .as("properties")
+                .isEmpty();
+        })));
+    }
+
+}
@@ -26,6 +26,7 @@
 
 import static org.mockito.ArgumentMatchers.assertArg;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
@@ -59,6 +60,66 @@ class ITSortingArgumentResolver {
     @MockitoBean
     private SortingReceiver sortingReceiver;
 
+    @Test
+    @DisplayName("With a sorting request containing only allowed properties, it parses the sorting")
+    void testSorting_AllowedProperties() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestSortingRequest.allowedProperties());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(sortingReceiver).receive(assertArg(s -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(s.properties())
+                .as("properties")
+                .containsExactly(new Property("field", Direction.ASC));
+        })));
+    }
+
+    @Test
+    @DisplayName("With a sorting request containing not allowed properties, it drops them")
+    void testSorting_DisallowedProperties() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestSortingRequest.disallowedProperties());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(sortingReceiver).receive(assertArg(s -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(s.properties())
+                .as("properties")
+                .containsExactly(new Property("field", Direction.ASC));
+        })));
+    }
+
+    @Test
+    @DisplayName("With a sorting request containing not allowed properties, it rejects the request")
+    void testSorting_DisallowedPropertiesRejected() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestSortingRequest.disallowedPropertiesRejected());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isBadRequest());
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.code")
+            .value("400"));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.failures.sort")
+            .exists());
+
+        // The controller was not called
+        verifyNoInteractions(sortingReceiver);
+    }
+
     @Test
     @DisplayName("With a sorting request containing multiple fields, it parses the sorting")
     void testSorting_MultipleSorting() throws Exception {
@@ -99,6 +160,26 @@ void testSorting_NoSorting() throws Exception {
         })));
     }
 
+    @Test
+    @DisplayName("With a sorting request using pipes, it parses the sorting")
+    void testSorting_PipeSorting() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestSortingRequest.pipeSorting());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(sortingReceiver).receive(assertArg(s -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(s.properties())
+                .as("properties")
+                .containsExactly(new Property("field", Direction.ASC), new Property("field2", Direction.DESC));
+        })));
+    }
+
     @Test
     @DisplayName("With a sorting request, it parses the sorting")
     void testSorting_Sorting() throws Exception {
@@ -139,6 +220,26 @@ void testSorting_SortingInvalidDirection() throws Exception {
         })));
     }
 
+    @Test
+    @DisplayName("With a sorting request with mixed case direction and whitespaces, it parses the sorting")
+    void testSorting_SortingMixedCaseDirection() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestSortingRequest.mixedCaseDirection());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the pagination
+        verify(sortingReceiver).receive(assertArg(s -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(s.properties())
+                .as("properties")
+                .containsExactly(new Property("field", Direction.DESC));
+        })));
+    }
+
     @Test
     @DisplayName("With a sorting request missing direction, it parses nothing")
     void testSorting_SortingMissingDirection() throws Exception {
@@ -0,0 +1,180 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.request.integration;
+
+import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.pagination.domain.Sorting.Direction;
+import com.bernardomg.pagination.domain.Sorting.Property;
+import com.bernardomg.ws.springframework.request.SortingArgumentResolver;
+import com.bernardomg.ws.test.springframework.request.config.CachedSortingTestConfig;
+import com.bernardomg.ws.test.springframework.request.config.controller.SortingController;
+import com.bernardomg.ws.test.springframework.request.config.controller.SortingController.SortingReceiver;
+import com.bernardomg.ws.test.springframework.request.config.controller.TestSortingRequest;
+
+@WebMvcTest(SortingController.class)
+@ExtendWith(MockitoExtension.class)
+@SpringJUnitConfig(CachedSortingTestConfig.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("Sorting argument resolver - cached")
+class ITSortingArgumentResolverCache {
+
+    @Autowired
+    private MockMvc                 mockMvc;
+
+    @Autowired
+    private SortingArgumentResolver resolver;
+
+    @MockitoBean
+    private SortingReceiver         sortingReceiver;
+
+    @Test
+    @DisplayName("With not allowed properties, it doesn't cache the sorting")
+    void testSorting_Disallowed() throws Exception {
+        // WHEN
+        mockMvc.perform(TestSortingRequest.disallowedProperties());
+        mockMvc.perform(TestSortingRequest.disallowedProperties());
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(resolver.getCacheHits())
+                .as("hits")
+                .isZero();
+            soft.assertThat(resolver.getCacheMisses())
+                .as("misses")
+                .isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("With a full cache, it evicts the sorting not used recently")
+    void testSorting_FullCache_Evicted() throws Exception {
+        // WHEN
+        mockMvc.perform(TestSortingRequest.singleSorting());
+        mockMvc.perform(TestSortingRequest.multipleSorting());
+        mockMvc.perform(TestSortingRequest.singleSorting());
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(resolver.getCacheHits())
+                .as("hits")
+                .isZero();
+            soft.assertThat(resolver.getCacheMisses())
+                .as("misses")
+                .isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("With a full cache, it caches the new sorting")
+    void testSorting_FullCache_New() throws Exception {
+        // WHEN
+        mockMvc.perform(TestSortingRequest.singleSorting());
+        mockMvc.perform(TestSortingRequest.multipleSorting());
+        mockMvc.perform(TestSortingRequest.multipleSorting());
+
+        // THEN
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(resolver.getCacheHits())
+                .as("hits")
+                .isOne();
+            soft.assertThat(resolver.getCacheMisses())
+                .as("misses")
+                .isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("With a repeated sorting request, it returns the cached sorting")
+    void testSorting_Repeated() throws Exception {
+        final ArgumentCaptor<Sorting> captor;
+        final List<Sorting>           received;
+
+        captor = ArgumentCaptor.forClass(Sorting.class);
+
+        // WHEN
+        mockMvc.perform(TestSortingRequest.singleSorting());
+        mockMvc.perform(TestSortingRequest.singleSorting());
+
+        // THEN
+        verify(sortingReceiver, times(2)).receive(captor.capture());
+        received = captor.getAllValues();
+
+        Assertions.assertThat(received.get(1))
+            .as("cached sorting")
+            .isSameAs(received.get(0));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(resolver.getCacheHits())
+                .as("hits")
+                .isOne();
+            soft.assertThat(resolver.getCacheMisses())
+                .as("misses")
+                .isOne();
+        });
+    }
+
+    @Test
+    @DisplayName("With a sorting request, it parses the sorting")
+    void testSorting_Single() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestSortingRequest.singleSorting());
+
+        // THEN
+        result.andExpect(MockMvcResultMatchers.status()
+            .isOk());
+
+        // Received the sorting
+        verify(sortingReceiver).receive(assertArg(s -> SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(s.properties())
+                .as("properties")
+                .containsExactly(new Property("field", Direction.ASC));
+        })));
+    }
+
+}
@@ -0,0 +1,79 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.config.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bernardomg.pagination.domain.Page;
+import com.bernardomg.validation.domain.model.FieldFailure;
+import com.bernardomg.ws.response.domain.model.ErrorResponse;
+import com.bernardomg.ws.response.domain.model.FailureResponse;
+import com.bernardomg.ws.response.domain.model.Response;
+
+@RestController
+@RequestMapping(BinaryFormatController.PATH)
+public class BinaryFormatController {
+
+    public static final String PATH                  = "/binary";
+
+    public static final String PATH_ERROR_RESPONSE   = PATH + "/errorResponse";
+
+    public static final String PATH_FAILURE_RESPONSE = PATH + "/failureResponse";
+
+    public static final String PATH_PAGE             = PATH + "/page";
+
+    public static final String PATH_RESPONSE         = PATH + "/response";
+
+    public BinaryFormatController() {
+        super();
+    }
+
+    @GetMapping(path = "/errorResponse")
+    public ErrorResponse errorResponse() {
+        return new ErrorResponse("code", "message");
+    }
+
+    @GetMapping(path = "/failureResponse")
+    public FailureResponse failureResponse() {
+        return new FailureResponse("400", "Failure",
+            Map.of("field", List.of(new FieldFailure("code", "field", "Error message", "value"))));
+    }
+
+    @GetMapping(path = "/page")
+    public Page<String> page() {
+        return new Page<>(List.of("abc"), 10, 1, 1, 1, 1, true, true, null);
+    }
+
+    @GetMapping(path = "/response")
+    public Response<String> response() {
+        return new Response<>("abc");
+    }
+
+}
@@ -0,0 +1,97 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.config.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bernardomg.ws.response.domain.model.Response;
+import com.bernardomg.ws.springframework.response.CachedResponse;
+import com.bernardomg.ws.springframework.response.ETag;
+
+@RestController
+@RequestMapping(CachedController.PATH)
+public class CachedController {
+
+    public interface CachedReceiver {
+
+        public void receive();
+
+    }
+
+    public static final String   CACHE         = "cached";
+
+    public static final String   CONTENT       = "content";
+
+    public static final String   PATH          = "/cached";
+
+    public static final String   PATH_ETAG     = PATH + "/etag";
+
+    public static final String   PATH_EXPIRING = PATH + "/expiring";
+
+    public static final String   PATH_SINGLE   = PATH + "/single";
+
+    private final CachedReceiver cachedReceiver;
+
+    public CachedController(final CachedReceiver receiver) {
+        super();
+
+        cachedReceiver = receiver;
+    }
+
+    @CachedResponse(CACHE)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Response<String> cached() {
+        cachedReceiver.receive();
+        return new Response<>(CONTENT);
+    }
+
+    @ETag
+    @CachedResponse
+    @GetMapping(path = "/etag", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Response<String> eTag() {
+        cachedReceiver.receive();
+        return new Response<>(CONTENT);
+    }
+
+    @CachedResponse(ttl = 1, timeUnit = TimeUnit.MILLISECONDS)
+    @GetMapping(path = "/expiring", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Response<String> expiring() {
+        cachedReceiver.receive();
+        return new Response<>(CONTENT);
+    }
+
+    @CachedResponse(maxEntries = 1)
+    @GetMapping(path = "/single", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Response<String> single() {
+        cachedReceiver.receive();
+        return new Response<>(CONTENT);
+    }
+
+}
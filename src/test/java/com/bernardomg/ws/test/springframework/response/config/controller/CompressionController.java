@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.config.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.bernardomg.ws.springframework.response.ExcelResponses;
+
+@RestController
+@RequestMapping(CompressionController.PATH)
+public class CompressionController {
+
+    public static final int    LARGE_SIZE        = 200;
+
+    public static final String PATH              = "/compression";
+
+    public static final String PATH_BINARY       = PATH + "/binary";
+
+    public static final String PATH_EXCEL        = PATH + "/excel";
+
+    public static final String PATH_LARGE        = PATH + "/large";
+
+    public static final String PATH_SMALL        = PATH + "/small";
+
+    public static final String PATH_SMALL_OBJECT = PATH + "/small/object";
+
+    public static final String PATH_STREAMING    = PATH + "/streaming";
+
+    public static final String ROWS              = "row\n".repeat(1024);
+
+    public CompressionController() {
+        super();
+    }
+
+    @GetMapping(path = "/binary")
+    public ResponseEntity<byte[]> binary() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.IMAGE_PNG)
+            .body(new byte[4096]);
+    }
+
+    @GetMapping(path = "/excel")
+    public ResponseEntity<InputStreamResource> excel() throws IOException {
+        final ByteArrayOutputStream stream;
+
+        stream = new ByteArrayOutputStream();
+        stream.write(ROWS.getBytes(StandardCharsets.UTF_8));
+
+        return ExcelResponses.response(stream, "file.xlsx");
+    }
+
+    @GetMapping(path = "/large", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Collection<ReturnedObject> large() {
+        return IntStream.range(0, LARGE_SIZE)
+            .mapToObj(i -> new ReturnedObject("name-" + i))
+            .toList();
+    }
+
+    @GetMapping(path = "/small", produces = MediaType.APPLICATION_JSON_VALUE)
+    public String small() {
+        return "{\"name\":\"name\"}";
+    }
+
+    @GetMapping(path = "/small/object", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ReturnedObject smallObject() {
+        return new ReturnedObject("name");
+    }
+
+    @GetMapping(path = "/streaming")
+    public ResponseEntity<StreamingResponseBody> streaming() {
+        return ExcelResponses.response(out -> out.write(ROWS.getBytes(StandardCharsets.UTF_8)), "file.xlsx");
+    }
+
+}
@@ -0,0 +1,82 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.config.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bernardomg.ws.response.domain.model.Response;
+import com.bernardomg.ws.response.domain.model.Versioned;
+import com.bernardomg.ws.springframework.response.ETag;
+
+@RestController
+@RequestMapping(ETagController.PATH)
+public class ETagController {
+
+    public record VersionedObject(String name, String version) implements Versioned {
+
+        @Override
+        public final String getVersion() {
+            return version;
+        }
+
+    }
+
+    public static final String CONTENT        = "content";
+
+    public static final String PATH           = "/etag";
+
+    public static final String PATH_HASHED    = PATH + "/hashed";
+
+    public static final String PATH_NO_ETAG   = PATH + "/none";
+
+    public static final String PATH_VERSIONED = PATH + "/versioned";
+
+    public static final String VERSION        = "1";
+
+    public ETagController() {
+        super();
+    }
+
+    @ETag
+    @GetMapping(path = "/hashed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Response<String> hashed() {
+        return new Response<>(CONTENT);
+    }
+
+    @GetMapping(path = "/none", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Response<String> none() {
+        return new Response<>(CONTENT);
+    }
+
+    @ETag
+    @GetMapping(path = "/versioned", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Response<VersionedObject> versioned() {
+        return new Response<>(new VersionedObject(CONTENT, VERSION));
+    }
+
+}
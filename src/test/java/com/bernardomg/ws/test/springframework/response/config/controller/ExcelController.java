@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.config.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.bernardomg.ws.springframework.response.ExcelResponses;
+
+@RestController
+@RequestMapping(ExcelController.PATH)
+public class ExcelController {
+
+    public static final String CONTENT        = "row1\nrow2\n";
+
+    public static final String FILENAME       = "file.xlsx";
+
+    public static final String PATH           = "/excel";
+
+    public static final String PATH_BUFFERED  = PATH + "/buffered";
+
+    public static final String PATH_STREAMING = PATH + "/streaming";
+
+    public ExcelController() {
+        super();
+    }
+
+    @GetMapping(path = "/buffered")
+    public ResponseEntity<InputStreamResource> buffered() throws IOException {
+        final ByteArrayOutputStream stream;
+
+        stream = new ByteArrayOutputStream();
+        stream.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        return ExcelResponses.response(stream, FILENAME);
+    }
+
+    @GetMapping(path = "/streaming")
+    public ResponseEntity<StreamingResponseBody> streaming() {
+        return ExcelResponses.response(out -> {
+            out.write("row1\n".getBytes(StandardCharsets.UTF_8));
+            out.write("row2\n".getBytes(StandardCharsets.UTF_8));
+        }, FILENAME);
+    }
+
+}
@@ -0,0 +1,79 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.config.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bernardomg.pagination.domain.Page;
+import com.bernardomg.ws.request.domain.model.Projection;
+import com.bernardomg.ws.response.domain.model.Response;
+
+@RestController
+@RequestMapping(ProjectedResponseController.PATH)
+public class ProjectedResponseController {
+
+    public record Address(String city, String street) {
+
+    }
+
+    public record User(String name, String description, Address address) {
+
+    }
+
+    public static final String PATH          = "/projected";
+
+    public static final String PATH_PAGE     = PATH + "/page";
+
+    public static final String PATH_RESPONSE = PATH + "/response";
+
+    public static final String PATH_UNUSED   = PATH + "/unused";
+
+    private static final User  USER          = new User("name", "description", new Address("city", "street"));
+
+    public ProjectedResponseController() {
+        super();
+    }
+
+    @GetMapping(path = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Page<User> page(final Projection projection) {
+        return new Page<>(List.of(USER), 10, 1, 1, 1, 1, true, true, null);
+    }
+
+    @GetMapping(path = "/response", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Response<List<User>> response(final Projection projection) {
+        return new Response<>(List.of(USER));
+    }
+
+    @GetMapping(path = "/unused", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Response<User> unused() {
+        return new Response<>(USER);
+    }
+
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.config.controller;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bernardomg.pagination.domain.Pagination;
+import com.bernardomg.pagination.domain.Sorting;
+import com.bernardomg.ws.response.domain.model.StreamPage;
+import com.bernardomg.ws.response.domain.model.StreamResponse;
+
+@RestController
+@RequestMapping(StreamController.PATH)
+public class StreamController {
+
+    public interface StreamCloseListener {
+
+        public void closed();
+
+    }
+
+    public static final String        PATH       = "/stream";
+
+    public static final String        PATH_EMPTY = PATH + "/empty";
+
+    public static final String        PATH_PAGE  = PATH + "/page";
+
+    private final StreamCloseListener closeListener;
+
+    public StreamController(final StreamCloseListener listener) {
+        super();
+
+        closeListener = listener;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamResponse<ReturnedObject> stream() {
+        final Stream<ReturnedObject> content;
+
+        content = Stream.of(new ReturnedObject("name1"), new ReturnedObject("name2"), new ReturnedObject("name3"))
+            .onClose(closeListener::closed);
+
+        return new StreamResponse<>(content);
+    }
+
+    @GetMapping(path = "/empty", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamResponse<ReturnedObject> streamEmpty() {
+        return new StreamResponse<>(Stream.<ReturnedObject> empty()
+            .onClose(closeListener::closed));
+    }
+
+    @GetMapping(path = "/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamPage<ReturnedObject> streamPage() {
+        final Stream<ReturnedObject> content;
+
+        content = Stream.of(new ReturnedObject("name1"), new ReturnedObject("name2"))
+            .onClose(closeListener::closed);
+
+        return StreamPage.of(content, new Pagination(2, 2), 5, new Sorting(List.of()));
+    }
+
+}
@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.config.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+public final class TestCompressionRequest {
+
+    public static final RequestBuilder binary() {
+        return MockMvcRequestBuilders.get(CompressionController.PATH_BINARY)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    }
+
+    public static final RequestBuilder excel() {
+        return MockMvcRequestBuilders.get(CompressionController.PATH_EXCEL)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    }
+
+    public static final RequestBuilder large() {
+        return MockMvcRequestBuilders.get(CompressionController.PATH_LARGE)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+    }
+
+    public static final RequestBuilder largeRejectingGzip() {
+        return MockMvcRequestBuilders.get(CompressionController.PATH_LARGE)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity");
+    }
+
+    public static final RequestBuilder largeWithoutEncoding() {
+        return MockMvcRequestBuilders.get(CompressionController.PATH_LARGE);
+    }
+
+    public static final RequestBuilder small() {
+        return MockMvcRequestBuilders.get(CompressionController.PATH_SMALL)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    }
+
+    public static final RequestBuilder smallObject() {
+        return MockMvcRequestBuilders.get(CompressionController.PATH_SMALL_OBJECT)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    }
+
+    public static final RequestBuilder streaming() {
+        return MockMvcRequestBuilders.get(CompressionController.PATH_STREAMING)
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    }
+
+    private TestCompressionRequest() {
+        super();
+    }
+
+}
@@ -0,0 +1,65 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.config.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+public final class TestETagRequest {
+
+    public static final RequestBuilder hashed() {
+        return MockMvcRequestBuilders.get(ETagController.PATH_HASHED)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder hashed(final String etag) {
+        return MockMvcRequestBuilders.get(ETagController.PATH_HASHED)
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder noETag() {
+        return MockMvcRequestBuilders.get(ETagController.PATH_NO_ETAG)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder versioned() {
+        return MockMvcRequestBuilders.get(ETagController.PATH_VERSIONED)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    public static final RequestBuilder versioned(final String etag) {
+        return MockMvcRequestBuilders.get(ETagController.PATH_VERSIONED)
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    private TestETagRequest() {
+        super();
+    }
+
+}
@@ -0,0 +1,169 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import com.bernardomg.ws.test.springframework.response.config.BinaryFormatsTestConfig;
+import com.bernardomg.ws.test.springframework.response.config.controller.BinaryFormatController;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+@WebMvcTest(BinaryFormatController.class)
+@SpringJUnitConfig(BinaryFormatsTestConfig.class)
+@DisplayName("Binary formats")
+class ITBinaryFormats {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc                mockMvc;
+
+    public ITBinaryFormats() {
+        super();
+    }
+
+    @Test
+    @DisplayName("An error response can be read as CBOR")
+    void testCbor_ErrorResponse() throws Exception {
+        final JsonNode body;
+
+        // WHEN
+        body = new CBORMapper().readTree(read(BinaryFormatController.PATH_ERROR_RESPONSE, MediaType.APPLICATION_CBOR));
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(body.get("code")
+                .asText())
+                .as("code")
+                .isEqualTo("code");
+            softly.assertThat(body.get("message")
+                .asText())
+                .as("message")
+                .isEqualTo("message");
+        });
+    }
+
+    @Test
+    @DisplayName("A failure response can be read as CBOR")
+    void testCbor_FailureResponse() throws Exception {
+        final JsonNode body;
+
+        // WHEN
+        body = new CBORMapper()
+            .readTree(read(BinaryFormatController.PATH_FAILURE_RESPONSE, MediaType.APPLICATION_CBOR));
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(body.get("code")
+                .asText())
+                .as("code")
+                .isEqualTo("400");
+            softly.assertThat(body.at("/failures/field/0/code")
+                .asText())
+                .as("failure code")
+                .isEqualTo("code");
+            softly.assertThat(body.at("/failures/field/0/value")
+                .asText())
+                .as("failure value")
+                .isEqualTo("value");
+        });
+    }
+
+    @Test
+    @DisplayName("A page can be read as CBOR")
+    void testCbor_Page() throws Exception {
+        final JsonNode body;
+
+        // WHEN
+        body = new CBORMapper().readTree(read(BinaryFormatController.PATH_PAGE, MediaType.APPLICATION_CBOR));
+
+        // THEN
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(body.at("/content/0")
+                .asText())
+                .as("content")
+                .isEqualTo("abc");
+            softly.assertThat(body.get("size")
+                .asInt())
+                .as("size")
+                .isEqualTo(10);
+        });
+    }
+
+    @Test
+    @DisplayName("A response can be read as CBOR")
+    void testCbor_Response() throws Exception {
+        final JsonNode body;
+
+        // WHEN
+        body = new CBORMapper().readTree(read(BinaryFormatController.PATH_RESPONSE, MediaType.APPLICATION_CBOR));
+
+        // THEN
+        assertThat(body.get("content")
+            .asText()).isEqualTo("abc");
+    }
+
+    @Test
+    @DisplayName("A response can be read as Smile")
+    void testSmile_Response() throws Exception {
+        final JsonNode body;
+
+        // WHEN
+        body = new SmileMapper().readTree(read(BinaryFormatController.PATH_RESPONSE, SMILE));
+
+        // THEN
+        assertThat(body.get("content")
+            .asText()).isEqualTo("abc");
+    }
+
+    private final byte[] read(final String path, final MediaType mediaType) throws Exception {
+        final MvcResult result;
+
+        result = mockMvc.perform(MockMvcRequestBuilders.get(path)
+            .accept(mediaType))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(mediaType))
+            .andReturn();
+
+        return result.getResponse()
+            .getContentAsByteArray();
+    }
+
+}
@@ -0,0 +1,307 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.bernardomg.ws.springframework.response.CompressionFilter;
+import com.bernardomg.ws.test.springframework.response.config.CompressionTestConfig;
+import com.bernardomg.ws.test.springframework.response.config.controller.CompressionController;
+import com.bernardomg.ws.test.springframework.response.config.controller.TestCompressionRequest;
+
+@WebMvcTest(CompressionController.class)
+@SpringJUnitConfig(CompressionTestConfig.class)
+@DisplayName("Compression filter")
+class ITCompressionFilter {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    public ITCompressionFilter() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a binary response it doesn't compress it")
+    void testCompression_Binary() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestCompressionRequest.binary());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        result.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4096));
+    }
+
+    @Test
+    @DisplayName("With a buffered Excel file it compresses it, without content length")
+    void testCompression_Excel() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestCompressionRequest.excel());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        result.andExpect(header().doesNotExist(HttpHeaders.CONTENT_LENGTH));
+
+        assertThat(decompress(result.andReturn())).as("body")
+            .isEqualTo(CompressionController.ROWS);
+    }
+
+    @Test
+    @DisplayName("With a small compressible response committed, it sends the body when committed, compressed")
+    void testCompression_Committed() throws Exception {
+        final CompressionFilter       filter;
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final AtomicInteger           flushed;
+
+        // GIVEN
+        filter = new CompressionFilter();
+        request = new MockHttpServletRequest("GET", "/stream");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        response = new MockHttpServletResponse();
+        flushed = new AtomicInteger();
+
+        // WHEN
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream()
+                .write("[{\"name\":\"name\"}".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            flushed.set(response.getContentAsByteArray().length);
+            res.getOutputStream()
+                .write("]".getBytes(StandardCharsets.UTF_8));
+        });
+
+        // THEN
+        assertThat(flushed.get()).as("flushed bytes")
+            .isPositive();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).as("encoding")
+            .isEqualTo("gzip");
+        assertThat(decompress(response.getContentAsByteArray())).as("body")
+            .isEqualTo("[{\"name\":\"name\"}]");
+    }
+
+    @Test
+    @DisplayName("With a small compressible response flushed, it keeps the body until finished, without compressing it")
+    void testCompression_FlushedCompressible() throws Exception {
+        final CompressionFilter       filter;
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final AtomicInteger           flushed;
+
+        // GIVEN
+        filter = new CompressionFilter();
+        request = new MockHttpServletRequest("GET", "/stream");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        response = new MockHttpServletResponse();
+        flushed = new AtomicInteger();
+
+        // WHEN
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream()
+                .write("[{\"name\":\"name\"}]".getBytes(StandardCharsets.UTF_8));
+            res.getOutputStream()
+                .flush();
+            flushed.set(response.getContentAsByteArray().length);
+        });
+
+        // THEN
+        assertThat(flushed.get()).as("flushed bytes")
+            .isZero();
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).as("encoding")
+            .isNull();
+        assertThat(response.getContentAsString()).as("body")
+            .isEqualTo("[{\"name\":\"name\"}]");
+    }
+
+    @Test
+    @DisplayName("With a small event stream flushed, it sends the event when flushed, without compressing it")
+    void testCompression_FlushedEventStream() throws Exception {
+        final CompressionFilter       filter;
+        final MockHttpServletRequest  request;
+        final MockHttpServletResponse response;
+        final AtomicReference<String> flushed;
+
+        // GIVEN
+        filter = new CompressionFilter();
+        request = new MockHttpServletRequest("GET", "/events");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        response = new MockHttpServletResponse();
+        flushed = new AtomicReference<>();
+
+        // WHEN
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            res.getOutputStream()
+                .write("data:event\n\n".getBytes(StandardCharsets.UTF_8));
+            res.getOutputStream()
+                .flush();
+            flushed.set(response.getContentAsString());
+        });
+
+        // THEN
+        assertThat(flushed.get()).as("flushed body")
+            .isEqualTo("data:event\n\n");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).as("encoding")
+            .isNull();
+    }
+
+    @Test
+    @DisplayName("With a large response it compresses it")
+    void testCompression_Large() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestCompressionRequest.large());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        result.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+
+        assertThat(decompress(result.andReturn())).as("body")
+            .startsWith("[{\"name\":\"name-0\"}")
+            .endsWith("{\"name\":\"name-" + (CompressionController.LARGE_SIZE - 1) + "\"}]");
+    }
+
+    @Test
+    @DisplayName("With gzip rejected it doesn't compress the response")
+    void testCompression_RejectingGzip() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestCompressionRequest.largeRejectingGzip());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("With a small response it doesn't compress it")
+    void testCompression_Small() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestCompressionRequest.small());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        result.andExpect(content().json("{\"name\":\"name\"}"));
+    }
+
+    @Test
+    @DisplayName("With a small object response it doesn't compress it")
+    void testCompression_SmallObject() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestCompressionRequest.smallObject());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        result.andExpect(content().json("{\"name\":\"name\"}"));
+    }
+
+    @Test
+    @DisplayName("With a streamed response it compresses it")
+    void testCompression_Streaming() throws Exception {
+        final MvcResult started;
+        final MvcResult result;
+
+        // WHEN
+        started = mockMvc.perform(TestCompressionRequest.streaming())
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn();
+
+        // THEN
+        assertThat(decompress(result)).as("body")
+            .isEqualTo(CompressionController.ROWS);
+    }
+
+    @Test
+    @DisplayName("Without accepted encodings it doesn't compress the response")
+    void testCompression_WithoutEncoding() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestCompressionRequest.largeWithoutEncoding());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    private final String decompress(final byte[] content) throws IOException {
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private final String decompress(final MvcResult result) throws IOException {
+        return decompress(result.getResponse()
+            .getContentAsByteArray());
+    }
+
+}
@@ -0,0 +1,176 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.integration;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.bernardomg.ws.test.springframework.response.config.ResponseWrappingTestConfig;
+import com.bernardomg.ws.test.springframework.response.config.controller.ETagController;
+import com.bernardomg.ws.test.springframework.response.config.controller.TestETagRequest;
+
+@WebMvcTest(ETagController.class)
+@SpringJUnitConfig(ResponseWrappingTestConfig.class)
+@DisplayName("ETag response advice")
+class ITETagResponseAdvice {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    public ITETagResponseAdvice() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a serialized response it returns the body and its ETag")
+    void testETag_Hashed() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestETagRequest.hashed());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().exists(HttpHeaders.ETAG));
+        result.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, "{\"content\":\"content\"}".length()));
+        result.andExpect(jsonPath("$.content").value(ETagController.CONTENT));
+    }
+
+    @Test
+    @DisplayName("With a serialized response and a matching ETag it returns not modified")
+    void testETag_Hashed_Matching() throws Exception {
+        final ResultActions result;
+        final String        etag;
+
+        // GIVEN
+        etag = mockMvc.perform(TestETagRequest.hashed())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // WHEN
+        result = mockMvc.perform(TestETagRequest.hashed(etag));
+
+        // THEN
+        result.andExpect(status().isNotModified());
+        result.andExpect(header().string(HttpHeaders.ETAG, etag));
+        result.andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("With a serialized response and a weak matching ETag it returns not modified")
+    void testETag_Hashed_MatchingWeak() throws Exception {
+        final ResultActions result;
+        final String        etag;
+
+        // GIVEN
+        etag = mockMvc.perform(TestETagRequest.hashed())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // WHEN
+        result = mockMvc.perform(TestETagRequest.hashed("W/" + etag));
+
+        // THEN
+        result.andExpect(status().isNotModified());
+        result.andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("With a serialized response and a not matching ETag it returns the body")
+    void testETag_Hashed_NotMatching() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestETagRequest.hashed("\"abc\""));
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().exists(HttpHeaders.ETAG));
+        result.andExpect(jsonPath("$.content").value(ETagController.CONTENT));
+    }
+
+    @Test
+    @DisplayName("With an endpoint not annotated it returns no ETag")
+    void testETag_NotAnnotated() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestETagRequest.noETag());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        result.andExpect(jsonPath("$.content").value(ETagController.CONTENT));
+    }
+
+    @Test
+    @DisplayName("With a versioned response it returns the body and its ETag")
+    void testETag_Versioned() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestETagRequest.versioned());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().exists(HttpHeaders.ETAG));
+        result.andExpect(jsonPath("$.content.name").value(ETagController.CONTENT));
+    }
+
+    @Test
+    @DisplayName("With a versioned response and a matching ETag it returns not modified")
+    void testETag_Versioned_Matching() throws Exception {
+        final ResultActions result;
+        final String        etag;
+
+        // GIVEN
+        etag = mockMvc.perform(TestETagRequest.versioned())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // WHEN
+        result = mockMvc.perform(TestETagRequest.versioned(etag));
+
+        // THEN
+        result.andExpect(status().isNotModified());
+        result.andExpect(header().string(HttpHeaders.ETAG, etag));
+        result.andExpect(content().string(""));
+    }
+
+}
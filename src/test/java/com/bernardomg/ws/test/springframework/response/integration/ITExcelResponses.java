@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.bernardomg.ws.test.springframework.response.config.ResponseWrappingTestConfig;
+import com.bernardomg.ws.test.springframework.response.config.controller.ExcelController;
+import com.bernardomg.ws.test.springframework.response.config.controller.TestExcelRequest;
+
+@WebMvcTest(ExcelController.class)
+@SpringJUnitConfig(ResponseWrappingTestConfig.class)
+@DisplayName("Excel responses")
+class ITExcelResponses {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    public ITExcelResponses() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a buffered file it returns the file as an attachment")
+    void testResponse_Buffered() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestExcelRequest.buffered());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=file.xlsx"));
+        result.andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/vnd.ms-excel"));
+        result.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, ExcelController.CONTENT.length()));
+        result.andExpect(content().string(ExcelController.CONTENT));
+    }
+
+    @Test
+    @DisplayName("With a streamed file it writes the file as an attachment")
+    void testResponse_Streaming() throws Exception {
+        final MvcResult     started;
+        final ResultActions result;
+
+        // WHEN
+        started = mockMvc.perform(TestExcelRequest.streaming())
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        result = mockMvc.perform(asyncDispatch(started));
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=file.xlsx"));
+        result.andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/vnd.ms-excel"));
+        result.andExpect(header().doesNotExist(HttpHeaders.CONTENT_LENGTH));
+        result.andExpect(content().string(ExcelController.CONTENT));
+    }
+
+}
@@ -0,0 +1,119 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.integration;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import com.bernardomg.ws.test.springframework.response.config.ProjectionResponseTestConfig;
+import com.bernardomg.ws.test.springframework.response.config.controller.ProjectedResponseController;
+
+@WebMvcTest(ProjectedResponseController.class)
+@SpringJUnitConfig(ProjectionResponseTestConfig.class)
+@DisplayName("Projection response advice")
+class ITProjectionResponseAdvice {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    public ITProjectionResponseAdvice() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With no fields, it returns all the fields")
+    void testProjection_NoFields() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(MockMvcRequestBuilders.get(ProjectedResponseController.PATH_RESPONSE));
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.content[0].name").value("name"));
+        result.andExpect(jsonPath("$.content[0].description").value("description"));
+        result.andExpect(jsonPath("$.content[0].address.city").value("city"));
+    }
+
+    @Test
+    @DisplayName("With fields for a page, it returns only those fields in the content, and the rest of the page")
+    void testProjection_Page() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(MockMvcRequestBuilders.get(ProjectedResponseController.PATH_PAGE)
+            .param("fields", "name"));
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.content[0].name").value("name"));
+        result.andExpect(jsonPath("$.content[0].description").doesNotExist());
+        result.andExpect(jsonPath("$.content[0].address").doesNotExist());
+        result.andExpect(jsonPath("$.size").value(10));
+        result.andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("With fields for a response, it returns only those fields")
+    void testProjection_Response() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(MockMvcRequestBuilders.get(ProjectedResponseController.PATH_RESPONSE)
+            .param("fields", "name,address.city"));
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.content[0].name").value("name"));
+        result.andExpect(jsonPath("$.content[0].description").doesNotExist());
+        result.andExpect(jsonPath("$.content[0].address.city").value("city"));
+        result.andExpect(jsonPath("$.content[0].address.street").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("With fields for an endpoint without projection, it returns all the fields")
+    void testProjection_Unused() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(MockMvcRequestBuilders.get(ProjectedResponseController.PATH_UNUSED)
+            .param("fields", "name"));
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.content.name").value("name"));
+        result.andExpect(jsonPath("$.content.description").value("description"));
+    }
+
+}
@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.reactive.server.WebTestClient.ResponseSpec;
+
+import com.bernardomg.ws.test.springframework.response.config.controller.ExcelController;
+import com.bernardomg.ws.test.springframework.response.config.controller.ReactiveExcelController;
+
+@WebFluxTest(ReactiveExcelController.class)
+@DisplayName("Reactive Excel responses")
+class ITReactiveExcelResponses {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    public ITReactiveExcelResponses() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With a streamed file it writes the file as an attachment")
+    void testResponse_Streaming() {
+        final ResponseSpec result;
+
+        // WHEN
+        result = webTestClient.get()
+            .uri(ReactiveExcelController.PATH_STREAMING)
+            .exchange();
+
+        // THEN
+        result.expectStatus()
+            .isOk();
+        result.expectHeader()
+            .valueEquals(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=file.xlsx");
+        result.expectHeader()
+            .valueEquals(HttpHeaders.CONTENT_TYPE, "application/vnd.ms-excel");
+        result.expectHeader()
+            .doesNotExist(HttpHeaders.CONTENT_LENGTH);
+        result.expectBody(String.class)
+            .isEqualTo(ExcelController.CONTENT);
+    }
+
+}
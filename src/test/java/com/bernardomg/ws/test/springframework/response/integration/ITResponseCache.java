@@ -0,0 +1,205 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.integration;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.bernardomg.ws.springframework.response.ResponseCache;
+import com.bernardomg.ws.test.springframework.response.config.ResponseCacheTestConfig;
+import com.bernardomg.ws.test.springframework.response.config.controller.CachedController;
+import com.bernardomg.ws.test.springframework.response.config.controller.CachedController.CachedReceiver;
+import com.bernardomg.ws.test.springframework.response.config.controller.TestCachedRequest;
+
+@WebMvcTest(CachedController.class)
+@SpringJUnitConfig(ResponseCacheTestConfig.class)
+@DisplayName("Response cache")
+class ITResponseCache {
+
+    @MockitoBean
+    private CachedReceiver cachedReceiver;
+
+    @Autowired
+    private MockMvc        mockMvc;
+
+    @Autowired
+    private ResponseCache  responseCache;
+
+    public ITResponseCache() {
+        super();
+    }
+
+    @BeforeEach
+    public final void setUp() {
+        responseCache.evictAll();
+    }
+
+    @Test
+    @DisplayName("With the same request twice, the endpoint is called once")
+    void testCache_Cached() throws Exception {
+        final ResultActions result;
+
+        // GIVEN
+        mockMvc.perform(TestCachedRequest.cached());
+
+        // WHEN
+        result = mockMvc.perform(TestCachedRequest.cached());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, "{\"content\":\"content\"}".length()));
+        result.andExpect(jsonPath("$.content").value(CachedController.CONTENT));
+
+        verify(cachedReceiver).receive();
+    }
+
+    @Test
+    @DisplayName("With the same pagination, explicit and defaulted, the endpoint is called once")
+    void testCache_DefaultPagination() throws Exception {
+        final ResultActions result;
+
+        // GIVEN
+        mockMvc.perform(TestCachedRequest.cached());
+
+        // WHEN
+        result = mockMvc.perform(TestCachedRequest.cached(1, 10));
+
+        // THEN
+        result.andExpect(status().isOk());
+
+        verify(cachedReceiver).receive();
+    }
+
+    @Test
+    @DisplayName("With a different pagination, the endpoint is called for each one")
+    void testCache_DifferentPagination() throws Exception {
+        final ResultActions result;
+
+        // GIVEN
+        mockMvc.perform(TestCachedRequest.cached(1, 10));
+
+        // WHEN
+        result = mockMvc.perform(TestCachedRequest.cached(2, 10));
+
+        // THEN
+        result.andExpect(status().isOk());
+
+        verify(cachedReceiver, times(2)).receive();
+    }
+
+    @Test
+    @DisplayName("With a cached ETag endpoint and a matching ETag, it returns not modified")
+    void testCache_ETag_Matching() throws Exception {
+        final ResultActions result;
+        final String        etag;
+
+        // GIVEN
+        etag = mockMvc.perform(TestCachedRequest.eTag())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // WHEN
+        result = mockMvc.perform(TestCachedRequest.eTag(etag));
+
+        // THEN
+        result.andExpect(status().isNotModified());
+        result.andExpect(header().string(HttpHeaders.ETAG, etag));
+        result.andExpect(content().string(""));
+
+        verify(cachedReceiver).receive();
+    }
+
+    @Test
+    @DisplayName("With an evicted cache, the endpoint is called again")
+    void testCache_Evicted() throws Exception {
+        final ResultActions result;
+
+        // GIVEN
+        mockMvc.perform(TestCachedRequest.cached());
+        responseCache.evict(CachedController.CACHE);
+
+        // WHEN
+        result = mockMvc.perform(TestCachedRequest.cached());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.content").value(CachedController.CONTENT));
+
+        verify(cachedReceiver, times(2)).receive();
+    }
+
+    @Test
+    @DisplayName("With an expired response, the endpoint is called again")
+    void testCache_Expired() throws Exception {
+        final ResultActions result;
+
+        // GIVEN
+        mockMvc.perform(TestCachedRequest.expiring());
+        Thread.sleep(5);
+
+        // WHEN
+        result = mockMvc.perform(TestCachedRequest.expiring());
+
+        // THEN
+        result.andExpect(status().isOk());
+
+        verify(cachedReceiver, times(2)).receive();
+    }
+
+    @Test
+    @DisplayName("With a full cache, the least recently used response is removed")
+    void testCache_Full() throws Exception {
+        final ResultActions result;
+
+        // GIVEN
+        mockMvc.perform(TestCachedRequest.single(1));
+        mockMvc.perform(TestCachedRequest.single(2));
+
+        // WHEN
+        result = mockMvc.perform(TestCachedRequest.single(1));
+
+        // THEN
+        result.andExpect(status().isOk());
+
+        verify(cachedReceiver, times(3)).receive();
+    }
+
+}
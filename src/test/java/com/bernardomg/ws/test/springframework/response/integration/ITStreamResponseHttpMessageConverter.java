@@ -0,0 +1,100 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.integration;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.bernardomg.ws.test.springframework.response.config.StreamResponseTestConfig;
+import com.bernardomg.ws.test.springframework.response.config.controller.StreamController;
+import com.bernardomg.ws.test.springframework.response.config.controller.StreamController.StreamCloseListener;
+import com.bernardomg.ws.test.springframework.response.config.controller.TestStreamRequest;
+
+@WebMvcTest(StreamController.class)
+@ExtendWith(MockitoExtension.class)
+@SpringJUnitConfig(StreamResponseTestConfig.class)
+@DisplayName("Stream response message converter")
+class ITStreamResponseHttpMessageConverter {
+
+    @MockitoBean
+    private StreamCloseListener closeListener;
+
+    @Autowired
+    private MockMvc             mockMvc;
+
+    public ITStreamResponseHttpMessageConverter() {
+        super();
+    }
+
+    @Test
+    @DisplayName("With an empty stream, it writes an empty content array")
+    void testWrite_Empty() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestStreamRequest.empty());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.content", hasSize(0)));
+
+        // The stream was closed
+        verify(closeListener).closed();
+    }
+
+    @Test
+    @DisplayName("With a stream, it writes all the elements in the content array")
+    void testWrite_Stream() throws Exception {
+        final ResultActions result;
+
+        // WHEN
+        result = mockMvc.perform(TestStreamRequest.stream());
+
+        // THEN
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.content", hasSize(3)));
+        result.andExpect(jsonPath("$.content[0].name", equalTo("name1")));
+        result.andExpect(jsonPath("$.content[1].name", equalTo("name2")));
+        result.andExpect(jsonPath("$.content[2].name", equalTo("name3")));
+
+        // The stream was closed
+        verify(closeListener).closed();
+    }
+
+}
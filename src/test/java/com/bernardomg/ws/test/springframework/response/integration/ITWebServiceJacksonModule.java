@@ -0,0 +1,119 @@
+/**
+ * The MIT License (MIT)
+ * <p>
+ * Copyright (c) 2023-2025 the original author or authors.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bernardomg.ws.test.springframework.response.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.bernardomg.validation.domain.model.FieldFailure;
+import com.bernardomg.ws.response.domain.model.ErrorResponse;
+import com.bernardomg.ws.response.domain.model.FailureResponse;
+import com.bernardomg.ws.response.domain.model.Response;
+import com.bernardomg.ws.springframework.response.WebServiceJacksonModule;
+import com.bernardomg.ws.test.springframework.response.config.controller.ReturnedObject;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("Web service Jackson module")
+class ITWebServiceJacksonModule {
+
+    private final ObjectMapper defaultMapper = new ObjectMapper();
+
+    private final ObjectMapper moduleMapper  = new ObjectMapper().registerModule(new WebServiceJacksonModule());
+
+    public ITWebServiceJacksonModule() {
+        super();
+    }
+
+    @Test
+    @DisplayName("An error response is serialized as by default")
+    void testSerialize_ErrorResponse() throws Exception {
+        final ErrorResponse response;
+
+        // GIVEN
+        response = new ErrorResponse("code", "message");
+
+        // WHEN + THEN
+        assertThat(moduleMapper.writeValueAsString(response)).isEqualTo(defaultMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("A failure response is serialized as by default")
+    void testSerialize_FailureResponse() throws Exception {
+        final FailureResponse response;
+
+        // GIVEN
+        response = new FailureResponse("code", "message",
+            Map.of("name", List.of(new FieldFailure("empty", "name", "Missing name", null)), "date",
+                List.of(new FieldFailure("invalid", "date", "Invalid date", "abc"))));
+
+        // WHEN + THEN
+        assertThat(moduleMapper.readTree(moduleMapper.writeValueAsString(response)))
+            .isEqualTo(defaultMapper.readTree(defaultMapper.writeValueAsString(response)));
+    }
+
+    @Test
+    @DisplayName("A response without content is serialized as by default")
+    void testSerialize_Response_Empty() throws Exception {
+        final Response<Object> response;
+
+        // GIVEN
+        response = Response.empty();
+
+        // WHEN + THEN
+        assertThat(moduleMapper.writeValueAsString(response)).isEqualTo(defaultMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("A response without content skips it when the mapper excludes nulls")
+    void testSerialize_Response_Empty_NonNull() throws Exception {
+        final Response<Object> response;
+
+        // GIVEN
+        response = Response.empty();
+        moduleMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        // WHEN + THEN
+        assertThat(moduleMapper.writeValueAsString(response)).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("A response with an object is serialized as by default")
+    void testSerialize_Response_Object() throws Exception {
+        final Response<ReturnedObject> response;
+
+        // GIVEN
+        response = new Response<>(new ReturnedObject("name"));
+
+        // WHEN + THEN
+        assertThat(moduleMapper.writeValueAsString(response)).isEqualTo(defaultMapper.writeValueAsString(response));
+    }
+
+}